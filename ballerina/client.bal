@@ -21,7 +21,8 @@ import ballerina/log;
 @display {label: "MongoDB Client", iconPath: "icon.png"}
 public isolated client class Client {
 
-    # Initialises the `Client` object with the provided `ConnectionConfig` properties.
+    # Initialises the `Client` object with the provided `ConnectionConfig` properties. The clients initialized with
+    # identical configurations share the same connection pool.
     #
     # + config - The connection configurations for connecting to a MongoDB server
     # + return - A `mongodb:Error` if the provided configurations are invalid. `()` otherwise.
@@ -50,18 +51,65 @@ public isolated client class Client {
         'class: "io.ballerina.lib.mongodb.Client"
     } external;
 
-    # Retrieves a database from the MongoDB server.
+    # Retrieves a database from the MongoDB server. The same `mongodb:Database` object is returned for the same name and
+    # options until the database is dropped.
     #
     # + databaseName - Name of the database
+    # + options - The read and write settings of the database, overriding the settings of the client
     # + return - A `mongodb:Database` object on success or else a `mongodb:DatabaseError` if unable to reach the DB
     @display {label: "Get Database"}
-    isolated remote function getDatabase(@display {label: "Database Name"} string databaseName) returns Database|Error {
-        return new Database(self, databaseName);
+    isolated remote function getDatabase(@display {label: "Database Name"} string databaseName,
+            @display {label: "Options"} ReadWriteOptions options = {}) returns Database|Error {
+        Database? database = getCachedDatabase(self, databaseName, options);
+        if database is Database {
+            return database;
+        }
+        return cacheDatabase(self, databaseName, options, check new Database(self, databaseName, options));
+    }
+
+    # Starts a client session. Pass the session to the `Collection` operations to execute them causally consistent with
+    # each other or as a part of a transaction.
+    #
+    # > **Note:** Close the session once it is no longer used.
+    #
+    # + options - The options of the session
+    # + return - A `mongodb:Session` object on success or else a `mongodb:Error` if unable to start the session
+    @display {label: "Start Session"}
+    isolated remote function startSession(SessionOptions options = {}) returns Session|Error {
+        return new Session(self, options);
     }
 
+    # Watches the changes of all the databases of the deployment. The events are returned as they happen, until the stream
+    # is closed.
+    #
+    # > **Note:** Change streams are only available on replica sets and sharded clusters. Close the resulted stream
+    # once the operation is completed.
+    #
+    # + options - The options to apply to the change stream
+    # + targetType - The type of the returned change events
+    # + return - A stream of change events, or an error if the operation failed
+    @display {label: "Watch Changes"}
+    isolated remote function watch(ChangeStreamOptions options = {}, typedesc<ChangeStreamEvent> targetType = <>)
+    returns stream<targetType, error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Client"
+    } external;
+
+    # Retrieves the network statistics of the server. Compare the compressed and uncompressed byte counts of the
+    # compressors to confirm the bandwidth saved by the compression.
+    #
+    # > **Note:** The statistics are of the server, including the messages of the other clients. The user requires the
+    # `serverStatus` privilege, which is granted by the `clusterMonitor` role.
+    #
+    # + return - The network statistics on success or else a `mongodb:Error` if unable to retrieve them
+    @display {label: "Get Network Statistics"}
+    isolated remote function getNetworkStats() returns NetworkStats|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Client"
+    } external;
+
     # Closes the client.
     #
     # > **Note:** Use a single client instance for the lifetime of the application and close it when the application is done.
+    # The connection pool shared by the clients with identical configurations is closed when the last of them is closed.
     #
     # + return - A `mongodb:Error` if the client is already closed or failed to close the client. `()` otherwise.
     @display {label: "Close the Client"}
@@ -74,3 +122,13 @@ isolated function initClient(Client 'client, ConnectionParameters|string connect
 returns Error? = @java:Method {
     'class: "io.ballerina.lib.mongodb.Client"
 } external;
+
+isolated function getCachedDatabase(Client 'client, string databaseName, ReadWriteOptions options) returns Database? =
+@java:Method {
+    'class: "io.ballerina.lib.mongodb.Client"
+} external;
+
+isolated function cacheDatabase(Client 'client, string databaseName, ReadWriteOptions options, Database database)
+returns Database = @java:Method {
+    'class: "io.ballerina.lib.mongodb.Client"
+} external;
@@ -24,9 +24,9 @@ public isolated client class Collection {
 
     private final string collectionName;
 
-    isolated function init(Database database, string collectionName) returns Error? {
+    isolated function init(Database database, string collectionName, CollectionOptions options = {}) returns Error? {
         self.collectionName = collectionName;
-        check initCollection(self, database, collectionName);
+        check initCollection(self, database, collectionName, options);
     }
 
     # Returns the name of the collection.
@@ -36,24 +36,117 @@ public isolated client class Collection {
         return self.collectionName;
     }
 
-    # Inserts a single document into the collection.
+    # Returns the statistics of the result cache of the collection.
+    #
+    # + return - The statistics of the result cache, or nil if the result cache is not enabled for the collection
+    public isolated function getResultCacheStats() returns ResultCacheStats? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.ResultCache"
+    } external;
+
+    # Returns the statistics of the lookup coalescing of the collection.
+    #
+    # + return - The statistics of the lookup coalescing, or nil if the lookup coalescing is not enabled for the
+    # collection
+    public isolated function getLookupCoalescingStats() returns LookupCoalescingStats? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.LookupCoalescer"
+    } external;
+
+    # Inserts a single document into the collection. If the document does not have an `_id`, an object ID is
+    # generated as the `_id` before sending the document.
     #
     # + document - The document to insert
     # + options - The options to apply to the operation
-    # + return - An error if the operation failed, otherwise nil
-    isolated remote function insertOne(record {|anydata...;|} document, InsertOneOptions options = {}) returns Error? {
-        string documentString = document.toJsonString();
-        return check insertOne(self, documentString, options);
-    }
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the insert operation including the `_id` of the document, or an error if the operation
+    # failed
+    isolated remote function insertOne(record {|anydata...;|} document, InsertOneOptions options = {},
+            Session? session = ()) returns InsertOneResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
 
-    # Inserts multiple documents into the collection.
+    # Inserts multiple documents into the collection. An object ID is generated as the `_id` of each document which
+    # does not have an `_id` before sending the documents.
     #
     # + documents - The documents to insert
     # + options - The options to apply to the operation
-    # + return - An error if the operation failed, otherwise nil
-    isolated remote function insertMany(record {|anydata...;|}[] documents, InsertManyOptions options = {}) returns Error? {
-        string[] documentString = documents.'map((doc) => doc.toJsonString());
-        return check insertMany(self, documentString, options);
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the insert operation including the `_id`s of the documents, or an error if the
+    # operation failed
+    isolated remote function insertMany(record {|anydata...;|}[] documents, InsertManyOptions options = {},
+            Session? session = ()) returns InsertManyResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Inserts the documents of a stream into the collection in batches. Only a single batch of documents is held in
+    # memory at a time, regardless of the number of documents in the stream.
+    #
+    # > **Note:** When the operation is ordered, it stops at the first failed batch and closes the stream. Otherwise,
+    # the remaining batches are inserted and the failures are reported in the result. The stream is also closed when
+    # an error is returned.
+    #
+    # + documents - The stream of documents to insert
+    # + options - The options to apply to the operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the operation including the failed batches, or an error if the operation failed
+    isolated remote function insertStream(stream<record {|anydata...;|}, error?> documents,
+            InsertStreamOptions options = {}, Session? session = ()) returns InsertStreamResult|Error {
+        do {
+            InsertBatch batch = check new (options.batchSize, options.maxBatchBytes);
+            InsertManyOptions insertManyOptions = {
+                bypassDocumentValidation: options.bypassDocumentValidation,
+                ordered: options.ordered
+            };
+            string? comment = options?.comment;
+            if comment is string {
+                insertManyOptions.comment = comment;
+            }
+            string|int? writeConcern = options?.writeConcern;
+            if writeConcern !is () {
+                insertManyOptions.writeConcern = writeConcern;
+            }
+            int insertedCount = 0;
+            int batchCount = 0;
+            InsertBatchResult[] failedBatches = [];
+            boolean hasMore = true;
+            while hasMore {
+                record {|record {|anydata...;|} value;|}|error? next = documents.next();
+                if next is error {
+                    fail error ApplicationError("Error occurred while reading the document stream", next);
+                }
+                boolean batchReady;
+                if next is () {
+                    hasMore = false;
+                    batchReady = !batch.isEmpty();
+                } else {
+                    batchReady = check batch.add(next.value);
+                }
+                if !batchReady {
+                    continue;
+                }
+                InsertBatchResult result = check batch.insert(self, batchCount, insertManyOptions, session);
+                batchCount += 1;
+                insertedCount += result.insertedCount;
+                (isolated function (InsertBatchResult result))? onBatchCompletion = options?.onBatchCompletion;
+                if onBatchCompletion !is () {
+                    onBatchCompletion(result);
+                }
+                if result.writeErrors.length() > 0 || result.writeConcernError !is () {
+                    failedBatches.push(result);
+                    if options.ordered {
+                        // The failed batches are reported regardless of the result of the close, as the documents
+                        // of the previous batches are already inserted
+                        error? closeResult = documents.close();
+                        break;
+                    }
+                }
+            }
+            return {insertedCount, batchCount, failedBatches};
+        } on fail error e {
+            // The remaining documents of the stream are not read, hence the stream is closed. The original error is
+            // more relevant than an error of the close
+            error? closeResult = documents.close();
+            return e;
+        }
     }
 
     # Finds documents from the collection.
@@ -65,9 +158,46 @@ public isolated client class Collection {
     # + projection - The projection to apply to the find operation. If not provided, the projection will be generated
     # based on the targetType
     # + targetType - The type of the returned documents
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - A stream of documents which match the provided filter, or an error if the operation failed
     isolated remote function find(map<json> filter = {}, FindOptions findOptions = {}, map<json>? projection = (),
-    typedesc<record {|anydata...;|}> targetType = <>) returns stream<targetType, error?>|Error = @java:Method {
+            typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns stream<targetType, error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Finds documents from the collection with the specified prepared query and the given values of its parameters.
+    #
+    # > **Note:** Close the resulted stream once the operation is completed.
+    #
+    # + query - The prepared query
+    # + parameters - The values of the parameters of the query by their names
+    # + findOptions - The additional options to apply to the find operation
+    # + targetType - The type of the returned documents
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - A stream of documents which match the provided query, or an error if the operation failed
+    isolated remote function findPrepared(PreparedQuery query, map<anydata> parameters = {},
+            FindOptions findOptions = {}, typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns stream<targetType, error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Finds documents from the collection and returns them in arrays instead of one by one. Each array contains the
+    # documents already received from the server, up to the `batchSize` of the options, which reduces the
+    # per-document overhead when processing a large number of documents.
+    #
+    # > **Note:** Close the resulted stream once the operation is completed.
+    #
+    # + filter - The query filter to apply when retrieving documents
+    # + findOptions - The additional options to apply to the find operation
+    # + projection - The projection to apply to the find operation. If not provided, the projection will be generated
+    # based on the targetType
+    # + targetType - The type of the returned documents
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - A stream of arrays of documents which match the provided filter, or an error if the operation failed
+    isolated remote function findBatches(map<json> filter = {}, FindOptions findOptions = {},
+            map<json>? projection = (), typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns stream<targetType[], error?>|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -78,9 +208,27 @@ public isolated client class Collection {
     # + projection - The projection to apply to the find operation. If not provided, the projection will be generated
     # based on the targetType
     # + targetType - The type of the returned document
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - The document which matches the provided filter, or an error if the operation failed
     isolated remote function findOne(map<json> filter = {}, FindOptions findOptions = {}, map<json>? projection = (),
-    typedesc<record {|anydata...;|}> targetType = <>) returns targetType|Error? = @java:Method {
+            typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns targetType|Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Finds a single document from the collection with the specified prepared query and the given values of its
+    # parameters.
+    #
+    # + query - The prepared query
+    # + parameters - The values of the parameters of the query by their names
+    # + findOptions - The additional options to apply to the find operation
+    # + targetType - The type of the returned document
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The document which matches the provided query, or nil if no document matches, or an error if the
+    # operation failed
+    isolated remote function findOnePrepared(PreparedQuery query, map<anydata> parameters = {},
+            FindOptions findOptions = {}, typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns targetType|Error? = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -88,9 +236,23 @@ public isolated client class Collection {
     #
     # + filter - The query filter to apply when counting documents
     # + options - The additional options to apply to the count operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The number of documents in the collection, or an error if the operation failed
+    isolated remote function countDocuments(map<json> filter = {}, CountOptions options = {}, Session? session = ())
+            returns int|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Counts the number of documents in the collection which match the specified prepared query with the given values
+    # of its parameters.
+    #
+    # + query - The prepared query
+    # + parameters - The values of the parameters of the query by their names
+    # + options - The options to apply to the count operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - The number of documents in the collection, or an error if the operation failed
-    isolated remote function countDocuments(map<json> filter = {}, CountOptions options = {}) returns int|Error =
-    @java:Method {
+    isolated remote function countDocumentsPrepared(PreparedQuery query, map<anydata> parameters = {},
+            CountOptions options = {}, Session? session = ()) returns int|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -98,9 +260,10 @@ public isolated client class Collection {
     #
     # + keys - The keys to index
     # + options - The options to apply to the index
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function createIndex(map<json> keys, CreateIndexOptions options = {}) returns Error? =
-    @java:Method {
+    isolated remote function createIndex(map<json> keys, CreateIndexOptions options = {}, Session? session = ())
+            returns Error? = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -108,31 +271,34 @@ public isolated client class Collection {
     #
     # > **Note:** Close the resulted stream once the operation is completed.
     #
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - A stream of indexes, or an error if the operation failed
-    isolated remote function listIndexes() returns stream<Index, error?>|Error =
-    @java:Method {
+    isolated remote function listIndexes(Session? session = ()) returns stream<Index, error?>|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
     # Drops an index from the collection.
     #
     # + indexName - The name of the index to drop
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function dropIndex(string indexName) returns Error? = @java:Method {
+    isolated remote function dropIndex(string indexName, Session? session = ()) returns Error? = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
     # Drops all the indexes from the collection.
     #
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function dropIndexes() returns Error? = @java:Method {
+    isolated remote function dropIndexes(Session? session = ()) returns Error? = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
     # Drops the collection.
     #
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function drop() returns Error? = @java:Method {
+    isolated remote function drop(Session? session = ()) returns Error? = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -141,20 +307,49 @@ public isolated client class Collection {
     # + filter - The query filter to apply when updating documents
     # + update - The update operations to apply to the documents
     # + options - The options to apply to the update operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function updateOne(map<json> filter, Update update, UpdateOptions options = {})
+    isolated remote function updateOne(map<json> filter, Update update, UpdateOptions options = {},
+            Session? session = ())
             returns UpdateResult|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
+    # Updates a single document in the collection with the filter and the update of the specified prepared query and the
+    # given values of its parameters.
+    #
+    # + query - The prepared query, which must have an update
+    # + parameters - The values of the parameters of the query by their names
+    # + options - The options to apply to the update operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the update operation, or an error if the operation failed
+    isolated remote function updateOnePrepared(PreparedQuery query, map<anydata> parameters = {},
+            UpdateOptions options = {}, Session? session = ()) returns UpdateResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
     # Updates multiple documents in the collection.
     #
     # + filter - The query filter to apply when updating documents
     # + update - The update operations to apply to the documents
     # + options - The options to apply to the update operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function updateMany(map<json> filter, Update update, UpdateOptions options = {})
-    returns UpdateResult|Error = @java:Method {
+    isolated remote function updateMany(map<json> filter, Update update, UpdateOptions options = {},
+            Session? session = ()) returns UpdateResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Updates multiple documents in the collection with the filter and the update of the specified prepared query and the
+    # given values of its parameters.
+    #
+    # + query - The prepared query, which must have an update
+    # + parameters - The values of the parameters of the query by their names
+    # + options - The options to apply to the update operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the update operation, or an error if the operation failed
+    isolated remote function updateManyPrepared(PreparedQuery query, map<anydata> parameters = {},
+            UpdateOptions options = {}, Session? session = ()) returns UpdateResult|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -165,27 +360,131 @@ public isolated client class Collection {
     # + fieldName - The field for which to return distinct values
     # + filter - The query filter to apply when retrieving distinct values
     # + targetType - The type of the returned distinct values
+    # + options - The options to apply to the operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - A stream of distinct values, or an error if the operation failed
-    isolated remote function 'distinct(string fieldName, map<json> filter = {}, typedesc<anydata> targetType = <>)
-    returns stream<targetType, error?>|Error = @java:Method {
+    isolated remote function 'distinct(string fieldName, map<json> filter = {}, typedesc<anydata> targetType = <>,
+            DistinctOptions options = {}, Session? session = ()) returns stream<targetType, error?>|Error =
+            @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
     # Deletes a single document from the collection.
     #
     # + filter - The query filter to apply when deleting documents
+    # + options - The options to apply to the delete operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function deleteOne(map<json> filter) returns DeleteResult|Error =
-    @java:Method {
+    isolated remote function deleteOne(map<json> filter, DeleteOptions options = {}, Session? session = ())
+            returns DeleteResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Deletes a single document from the collection which match the specified prepared query with the given values of its
+    # parameters.
+    #
+    # + query - The prepared query
+    # + parameters - The values of the parameters of the query by their names
+    # + options - The options to apply to the delete operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the delete operation, or an error if the operation failed
+    isolated remote function deleteOnePrepared(PreparedQuery query, map<anydata> parameters = {},
+            DeleteOptions options = {}, Session? session = ()) returns DeleteResult|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
     # Deletes multiple documents from the collection.
     #
     # + filter - The query filter to apply when deleting documents
+    # + options - The options to apply to the delete operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - An error if the operation failed, otherwise nil
-    isolated remote function deleteMany(string|map<json> filter) returns DeleteResult|Error =
-    @java:Method {
+    isolated remote function deleteMany(string|map<json> filter, DeleteOptions options = {}, Session? session = ())
+            returns DeleteResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Deletes multiple documents from the collection which match the specified prepared query with the given values of its
+    # parameters.
+    #
+    # + query - The prepared query
+    # + parameters - The values of the parameters of the query by their names
+    # + options - The options to apply to the delete operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the delete operation, or an error if the operation failed
+    isolated remote function deleteManyPrepared(PreparedQuery query, map<anydata> parameters = {},
+            DeleteOptions options = {}, Session? session = ()) returns DeleteResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Atomically finds a single document and updates it. The document before the update is returned unless the
+    # `returnDocument` option is `AFTER`.
+    #
+    # + filter - The query filter to select the document
+    # + update - The update operations to apply to the document
+    # + options - The options to apply to the operation
+    # + targetType - The type of the returned document
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The document before or after the update, or nil if no document matches the filter and no document
+    # is upserted, or an error if the operation failed
+    isolated remote function findOneAndUpdate(map<json> filter, Update update, FindOneAndUpdateOptions options = {},
+            typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns targetType|Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Atomically finds a single document and replaces it. The document before the replacement is returned unless the
+    # `returnDocument` option is `AFTER`.
+    #
+    # + filter - The query filter to select the document
+    # + replacement - The document to replace the matched document with
+    # + options - The options to apply to the operation
+    # + targetType - The type of the returned document
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The document before or after the replacement, or nil if no document matches the filter and no
+    # document is upserted, or an error if the operation failed
+    isolated remote function findOneAndReplace(map<json> filter, record {|anydata...;|} replacement,
+            FindOneAndReplaceOptions options = {}, typedesc<record {|anydata...;|}> targetType = <>,
+            Session? session = ()) returns targetType|Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Atomically finds a single document and deletes it.
+    #
+    # + filter - The query filter to select the document
+    # + options - The options to apply to the operation
+    # + targetType - The type of the returned document
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The deleted document, or nil if no document matches the filter, or an error if the operation failed
+    isolated remote function findOneAndDelete(map<json> filter, FindOneAndDeleteOptions options = {},
+            typedesc<record {|anydata...;|}> targetType = <>, Session? session = ())
+            returns targetType|Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Executes a mix of insert, update, replace, and delete operations in a single request to the server.
+    #
+    # + models - The write operations to execute
+    # + options - The options to apply to the bulk write operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the bulk write operation including the failed writes, or an error if the operation
+    # failed
+    isolated remote function bulkWrite(WriteModel[] models, BulkWriteOptions options = {}, Session? session = ())
+    returns BulkWriteResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+
+    # Watches the changes of the collection. The events are returned as they happen, until the stream is closed.
+    #
+    # > **Note:** Change streams are only available on replica sets and sharded clusters. Close the resulted stream
+    # once the operation is completed.
+    #
+    # + options - The options to apply to the change stream
+    # + targetType - The type of the returned change events
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - A stream of change events, or an error if the operation failed
+    isolated remote function watch(ChangeStreamOptions options = {}, typedesc<ChangeStreamEvent> targetType = <>,
+            Session? session = ()) returns stream<targetType, error?>|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
 
@@ -195,24 +494,52 @@ public isolated client class Collection {
     #
     # + pipeline - The aggregation pipeline
     # + targetType - The type of the returned documents
+    # + options - The options to apply to the operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
     # + return - A stream of documents which match the provided pipeline, or an error if the operation failed
-    isolated remote function aggregate(map<json>[] pipeline, typedesc<anydata> targetType = <>)
+    isolated remote function aggregate(map<json>[] pipeline, typedesc<anydata> targetType = <>,
+            AggregateOptions options = {}, Session? session = ())
             returns stream<targetType, error?>|Error = @java:Method {
         'class: "io.ballerina.lib.mongodb.Collection"
     } external;
-}
 
-isolated function initCollection(Collection collection, Database database, string collectionName) returns Error? =
-@java:Method {
-    'class: "io.ballerina.lib.mongodb.Collection"
-} external;
+    # Aggregates documents according to the specified prepared aggregation pipeline, with the given values of its
+    # parameters. The pipeline is not converted to BSON again, only the parameter values are.
+    #
+    # > **Note:** Close the resulted stream once the operation is completed.
+    #
+    # + pipeline - The prepared aggregation pipeline
+    # + parameters - The values of the parameters of the pipeline by their names
+    # + targetType - The type of the returned documents
+    # + options - The options to apply to the operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - A stream of documents which match the provided pipeline, or an error if the operation failed
+    isolated remote function aggregatePrepared(PreparedPipeline pipeline, map<anydata> parameters = {},
+            typedesc<anydata> targetType = <>, AggregateOptions options = {}, Session? session = ())
+            returns stream<targetType, error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
 
-isolated function insertOne(Collection collection, string document, InsertOneOptions options) returns Error? =
-@java:Method {
-    'class: "io.ballerina.lib.mongodb.Collection"
-} external;
+    # Aggregates documents according to the specified aggregation pipeline and returns them in arrays instead of one
+    # by one. Each array contains the documents already received from the server, up to the `batchSize` of the
+    # options.
+    #
+    # > **Note:** Close the resulted stream once the operation is completed.
+    #
+    # + pipeline - The aggregation pipeline
+    # + targetType - The type of the returned documents
+    # + options - The options to apply to the operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - A stream of arrays of documents which match the provided pipeline, or an error if the operation
+    # failed
+    isolated remote function aggregateBatches(map<json>[] pipeline, typedesc<anydata> targetType = <>,
+            AggregateOptions options = {}, Session? session = ())
+            returns stream<targetType[], error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Collection"
+    } external;
+}
 
-isolated function insertMany(Collection collection, string[] documents, InsertManyOptions options) returns Error? =
-@java:Method {
+isolated function initCollection(Collection collection, Database database, string collectionName,
+        CollectionOptions options) returns Error? = @java:Method {
     'class: "io.ballerina.lib.mongodb.Collection"
 } external;
@@ -22,8 +22,8 @@ import ballerina/jballerina.java;
 }
 public isolated client class Database {
 
-    isolated function init(Client 'client, string databaseName) returns Error? {
-        check initDatabase(self, 'client, databaseName);
+    isolated function init(Client 'client, string databaseName, ReadWriteOptions options = {}) returns Error? {
+        check initDatabase(self, 'client, databaseName, options);
     }
 
     # Lists all the collections in the database.
@@ -41,14 +41,35 @@ public isolated client class Database {
         'class: "io.ballerina.lib.mongodb.Database"
     } external;
 
-    # Get a collection from the database.
+    # Get a collection from the database. The same `mongodb:Collection` object is returned for the same name and
+    # options until the collection or the database is dropped.
     #
     # + collectionName - The name of the collection to be retrieved
+    # + options - The settings of the collection, overriding the settings of the database
     # + return - The `mogodb:Collection` on success or else an error
-    isolated remote function getCollection(string collectionName) returns Collection|Error {
-        return new (self, collectionName);
+    isolated remote function getCollection(string collectionName, CollectionOptions options = {})
+            returns Collection|Error {
+        Collection? collection = getCachedCollection(self, collectionName, options);
+        if collection is Collection {
+            return collection;
+        }
+        return cacheCollection(self, collectionName, options, check new (self, collectionName, options));
     }
 
+    # Watches the changes of all the collections of the database. The events are returned as they happen, until the stream
+    # is closed.
+    #
+    # > **Note:** Change streams are only available on replica sets and sharded clusters. Close the resulted stream
+    # once the operation is completed.
+    #
+    # + options - The options to apply to the change stream
+    # + targetType - The type of the returned change events
+    # + return - A stream of change events, or an error if the operation failed
+    isolated remote function watch(ChangeStreamOptions options = {}, typedesc<ChangeStreamEvent> targetType = <>)
+    returns stream<targetType, error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Database"
+    } external;
+
     # Drops the database.
     #
     # + return - Nil on success or else and error
@@ -57,6 +78,17 @@ public isolated client class Database {
     } external;
 }
 
-isolated function initDatabase(Database database, Client 'client, string databaseName) returns Error? = @java:Method {
+isolated function initDatabase(Database database, Client 'client, string databaseName, ReadWriteOptions options)
+returns Error? = @java:Method {
+    'class: "io.ballerina.lib.mongodb.Database"
+} external;
+
+isolated function getCachedCollection(Database database, string collectionName, CollectionOptions options)
+returns Collection? = @java:Method {
+    'class: "io.ballerina.lib.mongodb.Database"
+} external;
+
+isolated function cacheCollection(Database database, string collectionName, CollectionOptions options,
+        Collection collection) returns Collection = @java:Method {
     'class: "io.ballerina.lib.mongodb.Database"
 } external;
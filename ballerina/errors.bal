@@ -17,8 +17,11 @@
 # Holds the properties of a database error.
 #
 # + mongoDBExceptionType - Type of the returned MongoDB exception
+# + errorLabels - The labels of the error, such as `TransientTransactionError`, which indicate whether the failed
+# operation can be retried
 public type DatabaseErrorDetail record {
     string mongoDBExceptionType;
+    string[] errorLabels?;
 };
 
 # Represents an error caused by an issue related to database accessibility, erroneous queries, constraint violations,
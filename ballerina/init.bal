@@ -18,8 +18,28 @@ import ballerina/jballerina.java;
 
 function init() {
     setModule();
+    setRecordTypes({
+        "InsertOneResult": InsertOneResult,
+        "InsertManyResult": InsertManyResult,
+        "UpdateResult": UpdateResult,
+        "DeleteResult": DeleteResult,
+        "ResultCacheStats": ResultCacheStats,
+        "LookupCoalescingStats": LookupCoalescingStats,
+        "Index": Index,
+        "DatabaseErrorDetail": DatabaseErrorDetail,
+        "BulkWriteResult": BulkWriteResult,
+        "BulkWriteUpsert": BulkWriteUpsert,
+        "BulkWriteError": BulkWriteError,
+        "InsertBatchResult": InsertBatchResult,
+        "NetworkStats": NetworkStats,
+        "CompressorStats": CompressorStats
+    });
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.lib.mongodb.ModuleUtils"
 } external;
+
+function setRecordTypes(map<typedesc<record {}>> types) = @java:Method {
+    'class: "io.ballerina.lib.mongodb.ModuleUtils"
+} external;
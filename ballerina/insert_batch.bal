@@ -0,0 +1,64 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents a batch of encoded documents of the `Collection.insertStream()` operation.
+isolated class InsertBatch {
+
+    isolated function init(int batchSize, int maxBatchBytes) returns Error? {
+        if batchSize <= 0 {
+            return error ApplicationError("The batch size should be a positive integer");
+        }
+        if maxBatchBytes <= 0 || maxBatchBytes > MAX_MESSAGE_SIZE_BYTES {
+            return error ApplicationError(string `The maximum batch size in bytes should be between 1 and ${
+                MAX_MESSAGE_SIZE_BYTES}`);
+        }
+        initInsertBatch(self, batchSize, maxBatchBytes);
+    }
+
+    # Adds a document to the batch.
+    #
+    # + document - The document to add
+    # + return - `true` if the batch should be inserted before adding more documents, or an error if the document
+    # could not be encoded
+    isolated function add(record {|anydata...;|} document) returns boolean|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.InsertBatch"
+    } external;
+
+    # Checks whether the batch has documents to insert.
+    #
+    # + return - `true` if the batch is empty
+    isolated function isEmpty() returns boolean = @java:Method {
+        'class: "io.ballerina.lib.mongodb.InsertBatch"
+    } external;
+
+    # Inserts the documents of the batch into the collection and clears the batch.
+    #
+    # + collection - The collection to insert the documents into
+    # + batchIndex - The index of the batch
+    # + options - The options to apply to the insert operation
+    # + session - The session to execute the operation in, or nil to execute it without a session
+    # + return - The result of the batch, or an error if the operation failed
+    isolated function insert(Collection collection, int batchIndex, InsertManyOptions options, Session? session)
+    returns InsertBatchResult|Error = @java:Method {
+        'class: "io.ballerina.lib.mongodb.InsertBatch"
+    } external;
+}
+
+isolated function initInsertBatch(InsertBatch batch, int batchSize, int maxBatchBytes) = @java:Method {
+    'class: "io.ballerina.lib.mongodb.InsertBatch"
+} external;
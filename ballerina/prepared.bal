@@ -0,0 +1,73 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Returns the placeholder of a parameter to use in a prepared pipeline or query. The placeholder is replaced with the
+# value of the parameter each time the prepared pipeline or query is executed.
+#
+# + name - The name of the parameter
+# + return - The placeholder of the parameter
+public isolated function param(string name) returns map<json> => {"$param": name};
+
+# Represents an aggregation pipeline which is converted to BSON once and executed many times with different parameter
+# values. Use `mongodb:param` to add the parameters to the stages of the pipeline.
+#
+# ```ballerina
+# mongodb:PreparedPipeline pipeline = check new ([
+#     {"$match": {year: {"$gte": mongodb:param("year")}}},
+#     {"$group": {_id: "$director", count: {"$sum": 1}}}
+# ]);
+# stream<record {}, error?> result = check collection->aggregatePrepared(pipeline, {year: 2000});
+# ```
+public isolated class PreparedPipeline {
+
+    # Prepares the given aggregation pipeline.
+    #
+    # + pipeline - The aggregation pipeline with the parameter placeholders
+    # + return - An error if the pipeline cannot be converted to BSON, otherwise nil
+    public isolated function init(map<json>[] pipeline) returns Error? {
+        check preparePipeline(self, pipeline);
+    }
+}
+
+# Represents a query which is converted to BSON once and executed many times with different parameter values. The
+# filter, update, sort and projection of the query are prepared. Use `mongodb:param` to add the parameters to them.
+#
+# ```ballerina
+# mongodb:PreparedQuery query = check new (filter = {name: mongodb:param("name")},
+#     update = {set: {rating: mongodb:param("rating")}});
+# mongodb:UpdateResult result = check collection->updateOnePrepared(query, {name: "Inception", rating: 9});
+# ```
+public isolated class PreparedQuery {
+
+    # Prepares the given query.
+    #
+    # + config - The filter, update, sort and projection of the query with the parameter placeholders
+    # + return - An error if the query cannot be converted to BSON, otherwise nil
+    public isolated function init(*PreparedQueryConfig config) returns Error? {
+        check prepareQuery(self, config);
+    }
+}
+
+isolated function preparePipeline(PreparedPipeline preparedPipeline, map<json>[] pipeline) returns Error? =
+@java:Method {
+    'class: "io.ballerina.lib.mongodb.PreparedPipeline"
+} external;
+
+isolated function prepareQuery(PreparedQuery query, PreparedQueryConfig config) returns Error? = @java:Method {
+    'class: "io.ballerina.lib.mongodb.PreparedQuery"
+} external;
@@ -0,0 +1,145 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/time;
+
+const TRANSIENT_TRANSACTION_ERROR = "TransientTransactionError";
+const UNKNOWN_TRANSACTION_COMMIT_RESULT = "UnknownTransactionCommitResult";
+// Same as the MongoDB drivers, a transaction is not retried after two minutes since it was first started
+const decimal TRANSACTION_RETRY_TIMEOUT = 120;
+
+# Represents a MongoDB client session. Pass the session to the `Collection` operations to execute them in the
+# session, either causally consistent with each other or as a part of a multi-document transaction.
+#
+# > **Note:** Transactions are only available on replica sets and sharded clusters. Close the session once it is no
+# longer used.
+@display {
+    label: "MongoDB Session"
+}
+public isolated client class Session {
+
+    isolated function init(Client 'client, SessionOptions options) returns Error? {
+        check initSession(self, 'client, options);
+    }
+
+    # Starts a transaction in the session. The operations executed with the session after this are part of the
+    # transaction until it is committed or aborted.
+    #
+    # + options - The options of the transaction. The default transaction options of the session are used if not
+    # provided
+    # + return - An error if there is already an active transaction in the session, otherwise nil
+    isolated remote function startTransaction(TransactionOptions options = {}) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Session"
+    } external;
+
+    # Commits the active transaction of the session.
+    #
+    # + return - An error if the commit failed, otherwise nil. The error labels of the `mongodb:DatabaseError` indicate
+    # whether the commit can be retried
+    isolated remote function commitTransaction() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Session"
+    } external;
+
+    # Aborts the active transaction of the session and discards its changes.
+    #
+    # + return - An error if the abort failed, otherwise nil
+    isolated remote function abortTransaction() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Session"
+    } external;
+
+    # Executes the given function in a transaction and commits it. The transaction is retried when it fails with a
+    # transient error, such as a write conflict or a primary step down, and the commit is retried when its result is
+    # unknown, until two minutes have passed since the first attempt.
+    #
+    # > **Note:** The function may be called more than once, hence it should not have side effects other than the
+    # operations executed with the given session.
+    #
+    # + body - The function executing the operations of the transaction using the given session
+    # + options - The options of the transaction. The default transaction options of the session are used if not
+    # provided
+    # + return - An error if the transaction could not be committed, otherwise nil
+    isolated remote function withTransaction(isolated function (Session session) returns error? body,
+            TransactionOptions options = {}) returns error? {
+        decimal startTime = time:monotonicNow();
+        while true {
+            check self->startTransaction(options);
+            error? result = body(self);
+            if result is error {
+                if self.hasActiveTransaction() {
+                    // An error of the abort is ignored, as the original error is the one which decides whether the
+                    // transaction is retried
+                    Error? abortResult = self->abortTransaction();
+                }
+                if hasErrorLabel(result, TRANSIENT_TRANSACTION_ERROR) && !isTimedOut(startTime) {
+                    continue;
+                }
+                return result;
+            }
+            // The whole transaction is retried when the commit fails with a transient error
+            while true {
+                Error? commitResult = self->commitTransaction();
+                if commitResult is () {
+                    return;
+                }
+                if isTimedOut(startTime) {
+                    return commitResult;
+                }
+                if hasErrorLabel(commitResult, UNKNOWN_TRANSACTION_COMMIT_RESULT) {
+                    continue;
+                }
+                if hasErrorLabel(commitResult, TRANSIENT_TRANSACTION_ERROR) {
+                    break;
+                }
+                return commitResult;
+            }
+        }
+    }
+
+    # Closes the session. An active transaction of the session is aborted.
+    #
+    # + return - An error if the session could not be closed, otherwise nil
+    isolated remote function close() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Session"
+    } external;
+
+    isolated function hasActiveTransaction() returns boolean = @java:Method {
+        'class: "io.ballerina.lib.mongodb.Session"
+    } external;
+}
+
+isolated function hasErrorLabel(error err, string label) returns boolean {
+    error? current = err;
+    while current is error {
+        if current is DatabaseError {
+            string[]? errorLabels = current.detail()?.errorLabels;
+            if errorLabels is string[] && errorLabels.indexOf(label) !is () {
+                return true;
+            }
+        }
+        current = current.cause();
+    }
+    return false;
+}
+
+isolated function isTimedOut(decimal startTime) returns boolean {
+    return time:monotonicNow() - startTime >= TRANSACTION_RETRY_TIMEOUT;
+}
+
+isolated function initSession(Session session, Client 'client, SessionOptions options) returns Error? =
+@java:Method {
+    'class: "io.ballerina.lib.mongodb.Session"
+} external;
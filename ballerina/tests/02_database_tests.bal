@@ -39,6 +39,27 @@ function testGetCollection() returns error? {
     check database->drop();
 }
 
+@test:Config {
+    groups: ["database", "collection"]
+}
+function testGetCachedHandles() returns error? {
+    Database database = check mongoClient->getDatabase("testGetCachedHandles");
+    test:assertTrue(database === check mongoClient->getDatabase("testGetCachedHandles"));
+    test:assertFalse(database === check mongoClient->getDatabase("testGetCachedHandles", {readConcern: MAJORITY}));
+
+    Collection collection = check database->getCollection("Movies");
+    test:assertTrue(collection === check database->getCollection("Movies"));
+    test:assertFalse(collection === check database->getCollection("Movies", {writeConcern: "majority"}));
+
+    _ = check collection->insertOne({name: "Interstellar", year: 2014, rating: 10});
+    check collection->drop();
+    Collection recreatedCollection = check database->getCollection("Movies");
+    test:assertFalse(collection === recreatedCollection);
+
+    check database->drop();
+    test:assertFalse(database === check mongoClient->getDatabase("testGetCachedHandles"));
+}
+
 @test:Config {
     groups: ["database"]
 }
@@ -35,7 +35,7 @@ isolated function testInsertAndFind() returns error? {
     Database database = check mongoClient->getDatabase("testInsertAndFindDB");
     Collection collection = check database->getCollection("Movies");
     Movie movie = {name: "Interstellar", year: 2014, rating: 9};
-    check collection->insertOne(movie);
+    _ = check collection->insertOne(movie);
     stream<Movie, error?> result = check collection->find();
     record {Movie value;}? movieResult = check result.next();
     if movieResult is () {
@@ -56,7 +56,7 @@ isolated function testFindOne() returns error? {
     Movie? actualResult = check collection->findOne();
     test:assertEquals(actualResult, (), "Expected an empty result");
     Movie movie = {name: "Interstellar", year: 2014, rating: 9};
-    check collection->insertOne(movie);
+    _ = check collection->insertOne(movie);
     actualResult = check collection->findOne();
     test:assertEquals(actualResult, movie);
     check collection->drop();
@@ -70,7 +70,7 @@ isolated function testInsertOneJsonMap() returns error? {
     Database database = check mongoClient->getDatabase("testInsertOneJsonMapDB");
     Collection collection = check database->getCollection("Movies");
     map<json> movie = {name: "Interstellar", year: 2014, rating: 9};
-    check collection->insertOne(movie);
+    _ = check collection->insertOne(movie);
     stream<record {|string name;|}, error?> result = check collection->find({}, {}, {_id: 0, name: 1});
     record {record {|string name;|} value;}? movieResult = check result.next();
     if movieResult is () {
@@ -93,7 +93,7 @@ isolated function testInsertManyJsonMap() returns error? {
     map<json> movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     map<json> movie4 = {name: "The Dark Knight", year: 2008, rating: 9};
     map<json>[] movies = [movie1, movie2, movie3, movie4];
-    check collection->insertMany(movies);
+    _ = check collection->insertMany(movies);
     stream<record {|string name;|}, error?> result = check collection->find();
     record {|string name;|}[] actualResult = check from record {|string name;|} movie in result
         select movie;
@@ -109,6 +109,38 @@ isolated function testInsertManyJsonMap() returns error? {
     check database->drop();
 }
 
+@test:Config {
+    groups: ["collection", "insert", "insertOne", "insertMany"]
+}
+isolated function testInsertedIds() returns error? {
+    Database database = check mongoClient->getDatabase("testInsertedIdsDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie movie = {name: "Interstellar", year: 2014, rating: 9};
+    InsertOneResult insertOneResult = check collection->insertOne(movie);
+    test:assertTrue(insertOneResult.acknowledged);
+    json insertedId = insertOneResult.insertedId;
+    if insertedId !is map<json> || !insertedId.hasKey("$oid") {
+        test:assertFail("Expected an object ID generated by the client");
+    }
+    test:assertFalse(movie.hasKey("_id"), "Expected the inserted document to be unchanged");
+    Movie? insertedMovie = check collection->findOne({_id: insertedId});
+    test:assertEquals(insertedMovie, movie);
+
+    InsertManyResult insertManyResult = check collection->insertMany([
+        {_id: "inception", name: "Inception", year: 2010, rating: 9},
+        {name: "Shutter Island", year: 2010, rating: 8}
+    ]);
+    test:assertEquals(insertManyResult.insertedIds.length(), 2);
+    test:assertEquals(insertManyResult.insertedIds[0], "inception");
+    json generatedId = insertManyResult.insertedIds[1];
+    if generatedId !is map<json> {
+        test:assertFail("Expected an object ID generated by the client");
+    }
+    test:assertEquals(check collection->countDocuments({_id: generatedId}), 1);
+    check collection->drop();
+    check database->drop();
+}
+
 @test:Config {
     groups: ["collection", "insert", "find"]
 }
@@ -116,7 +148,7 @@ isolated function testFindWithId() returns error? {
     Database database = check mongoClient->getDatabase("testFindWithIdDB");
     Collection collection = check database->getCollection("Movies");
     Movie movie = {name: "Interstellar", year: 2014, rating: 9};
-    check collection->insertOne(movie);
+    _ = check collection->insertOne(movie);
     stream<MovieWithIdName, error?> result = check collection->find();
     record {MovieWithIdName value;}? movieResult = check result.next();
     if movieResult is () {
@@ -139,7 +171,7 @@ isolated function testFindWithManualProjection() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 10};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     stream<record {string name;}, error?> result = check collection->find({rating: 9}, {}, {name: 1});
     record {record {string name;} value;}? movieResult = check result.next();
     if movieResult is () {
@@ -161,7 +193,7 @@ isolated function testInvalidReturnTypeWithManualProjection() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 10};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     stream<Movie, error?> result = check collection->find({rating: 9}, {}, {name: 1});
     Movie[]|error actualResult = from Movie movie in result
         select movie;
@@ -188,7 +220,7 @@ isolated function testNestedTypes() returns error? {
             country: "Sri Lanka"
         }
     };
-    check collection->insertOne(person);
+    _ = check collection->insertOne(person);
     stream<Person, error?> result = check collection->find({name: "John"});
     record {Person value;}? personResult = check result.next();
     if personResult is () {
@@ -210,7 +242,7 @@ isolated function testFindWithFilter() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 10};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     stream<Movie, error?> result = check collection->find({rating: 9});
     Movie[] expectedResult = [movie3];
     Movie[] actualResult = check from Movie movie in result
@@ -221,6 +253,206 @@ isolated function testFindWithFilter() returns error? {
     check database->drop();
 }
 
+@test:Config {
+    groups: ["collection", "insert", "find", "cursor"]
+}
+isolated function testFindWithCursorOptions() returns error? {
+    Database database = check mongoClient->getDatabase("testFindWithCursorOptionsDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie[] movies = from int i in 0 ..< 25
+        select {name: string `Movie ${i}`, year: 2000 + i, rating: i % 10};
+    _ = check collection->insertMany(movies);
+
+    stream<Movie, error?> result = check collection->find({}, {
+        sort: {year: 1},
+        skip: 5,
+        batchSize: 2,
+        noCursorTimeout: true,
+        allowDiskUse: true,
+        cursorType: NON_TAILABLE
+    });
+    Movie[] actualResult = check from Movie movie in result
+        select movie;
+    test:assertEquals(actualResult, movies.slice(5));
+
+    stream<record {|int year;|}, error?> aggregateResult = check collection->aggregate([
+        {\$match: {rating: {\$gte: 5}}},
+        {\$sort: {year: 1}}
+    ], options = {batchSize: 3, allowDiskUse: true});
+    int[] years = check from record {|int year;|} movie in aggregateResult
+        select movie.year;
+    test:assertEquals(years.length(), 10);
+
+    stream<int, error?> distinctRatings = check collection->'distinct("rating", {}, options = {batchSize: 1});
+    int[] ratings = check from int rating in distinctRatings
+        select rating;
+    test:assertEquals(ratings.length(), 10);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "insert", "find", "cursor"]
+}
+isolated function testFindWithPrefetch() returns error? {
+    Database database = check mongoClient->getDatabase("testFindWithPrefetchDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie[] movies = from int i in 0 ..< 50
+        select {name: string `Movie ${i}`, year: 2000 + i, rating: i % 10};
+    _ = check collection->insertMany(movies);
+
+    stream<Movie, error?> result = check collection->find({}, {sort: {year: 1}, batchSize: 8, prefetchSize: 4});
+    Movie[] actualResult = check from Movie movie in result
+        select movie;
+    test:assertEquals(actualResult, movies);
+
+    // Close the stream before consuming all the documents
+    result = check collection->find({}, {batchSize: 8, prefetchSize: 4});
+    record {|Movie value;|}? next = check result.next();
+    test:assertTrue(next is record {|Movie value;|});
+    check result.close();
+
+    stream<record {|string name;|}, error?> aggregateResult = check collection->aggregate([
+        {\$match: {rating: 0}}
+    ], options = {prefetchSize: 2});
+    string[] names = check from record {|string name;|} movie in aggregateResult
+        select movie.name;
+    test:assertEquals(names.length(), 5);
+
+    // An error completes the stream
+    _ = check collection->insertOne({name: "Unrated", year: 1999, rating: "unknown"});
+    result = check collection->find({}, {sort: {year: 1}, prefetchSize: 4});
+    record {|Movie value;|}|error? failed = result.next();
+    test:assertTrue(failed is error);
+    failed = result.next();
+    test:assertEquals(failed, ());
+    check result.close();
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "insert", "find", "cursor"]
+}
+isolated function testFindBatches() returns error? {
+    Database database = check mongoClient->getDatabase("testFindBatchesDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie[] movies = from int i in 0 ..< 25
+        select {name: string `Movie ${i}`, year: 2000 + i, rating: i % 10};
+    _ = check collection->insertMany(movies);
+
+    stream<Movie[], error?> result = check collection->findBatches({}, {sort: {year: 1}, batchSize: 10});
+    Movie[] actualResult = [];
+    check from Movie[] batch in result
+        do {
+            test:assertTrue(batch.length() > 0 && batch.length() <= 10);
+            actualResult.push(...batch);
+        };
+    test:assertEquals(actualResult, movies);
+
+    stream<record {|string name;|}[], error?> aggregateResult = check collection->aggregateBatches([
+        {\$match: {rating: {\$lt: 5}}}
+    ], options = {batchSize: 4, prefetchSize: 8});
+    int count = 0;
+    check from record {|string name;|}[] batch in aggregateResult
+        do {
+            test:assertTrue(batch.length() <= 4);
+            count += batch.length();
+        };
+    test:assertEquals(count, 15);
+
+    // The values read before an error are returned, and the error is returned on the next call
+    Collection mixedCollection = check database->getCollection("MixedMovies");
+    _ = check mixedCollection->insertMany([
+        {name: "Amelie", year: 2001, rating: 8},
+        {name: "Brazil", year: 1985, rating: 8},
+        {name: "Casablanca", year: "unknown", rating: 9}
+    ]);
+    stream<Movie[], error?> mixedResult = check mixedCollection->findBatches({}, {sort: {name: 1}});
+    record {|Movie[] value;|}|error? firstBatch = mixedResult.next();
+    if firstBatch !is record {|Movie[] value;|} {
+        test:assertFail("Expected the values read before the error");
+    }
+    test:assertEquals(firstBatch.value.length(), 2);
+    record {|Movie[] value;|}|error? secondBatch = mixedResult.next();
+    test:assertTrue(secondBatch is error);
+    check mixedResult.close();
+    check mixedCollection->drop();
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "find", "projection"]
+}
+isolated function testRepeatedQueriesWithSameType() returns error? {
+    Database database = check mongoClient->getDatabase("testRepeatedQueriesWithSameTypeDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie[] movies = [
+        {name: "Interstellar", year: 2014, rating: 10},
+        {name: "Inception", year: 2010, rating: 9}
+    ];
+    _ = check collection->insertMany(movies);
+    foreach Movie movie in movies {
+        record {|string name; int year;|}? result = check collection->findOne({name: movie.name});
+        test:assertEquals(result, {name: movie.name, year: movie.year});
+        stream<record {|string name; int year;|}, error?> aggregateResult = check collection->aggregate([
+            {\$match: {name: movie.name}}
+        ]);
+        record {|string name; int year;|}[] aggregateResults = check from var item in aggregateResult
+            select item;
+        test:assertEquals(aggregateResults, [{name: movie.name, year: movie.year}]);
+    }
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "readPreference", "writeConcern"]
+}
+isolated function testReadWriteOverrides() returns error? {
+    Database database = check mongoClient->getDatabase("testReadWriteOverridesDB", {
+        readPreference: "secondaryPreferred",
+        readConcern: LOCAL
+    });
+    Collection collection = check database->getCollection("Movies", {
+        readPreference: {mode: SECONDARY_PREFERRED, tagSets: [{region: "east"}, {}], maxStalenessSeconds: 120},
+        writeConcern: "majority"
+    });
+    _ = check collection->insertOne({name: "Interstellar", year: 2014, rating: 10}, {writeConcern: 1});
+    _ = check collection->insertMany([
+        {name: "Inception", year: 2010, rating: 9},
+        {name: "Tenet", year: 2020, rating: 7}
+    ], {writeConcern: "majority"});
+    _ = check collection->updateOne({name: "Tenet"}, {set: {rating: 8}}, {writeConcern: 1});
+
+    // Repeated operations with the same overrides share the same derived collection
+    foreach int i in 0 ..< 3 {
+        int count = check collection->countDocuments({}, {readPreference: PRIMARY, readConcern: MAJORITY});
+        test:assertEquals(count, 3);
+    }
+    Movie? movie = check collection->findOne({name: "Tenet"}, {readPreference: NEAREST});
+    test:assertEquals(movie?.rating, 8);
+    stream<Movie, error?> movies = check collection->aggregate([{\$match: {year: {\$gt: 2012}}}],
+        options = {readPreference: {mode: PRIMARY_PREFERRED}});
+    string[] names = check from Movie m in movies order by m.year select m.name;
+    test:assertEquals(names, ["Interstellar", "Tenet"]);
+
+    Movie|Error? result = collection->findOne({}, {readPreference: {mode: PRIMARY, tagSets: [{region: "east"}]}});
+    test:assertTrue(result is Error);
+
+    // The unacknowledged writes return without the counts
+    UpdateResult updateResult = check collection->updateMany({year: {\$lt: 2015}}, {inc: {rating: 1}},
+        {writeConcern: 0});
+    test:assertEquals(updateResult, {matchedCount: 0, modifiedCount: 0, acknowledged: false});
+    DeleteResult deleteResult = check collection->deleteOne({name: "Tenet"}, {writeConcern: 0});
+    test:assertEquals(deleteResult, {deletedCount: 0, acknowledged: false});
+    deleteResult = check collection->deleteMany({name: "Inception"}, {writeConcern: 0});
+    test:assertFalse(deleteResult.acknowledged);
+    check collection->drop();
+    check database->drop();
+}
+
 @test:Config {
     groups: ["collection", "insert", "countDocuments", "projection"]
 }
@@ -231,7 +463,7 @@ isolated function testInsertMany() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 10};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     int count = check collection->countDocuments({year: {\$gte: 2009}}); // Movies with year greater than 2009
     test:assertEquals(count, 3, "Expected 3 documents in the collection");
     stream<record {string name;}, error?> result = check collection->find();
@@ -259,7 +491,7 @@ isolated function testCountDocuments() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 9};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     int count = check collection->countDocuments();
     test:assertEquals(count, 4, "Expected 4 documents in the collection");
     count = check collection->countDocuments({rating: 9});
@@ -278,7 +510,7 @@ isolated function testIndexes() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 9};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     check collection->createIndex({name: 1}, {
         background: true,
         unique: true,
@@ -320,7 +552,7 @@ isolated function testUpdateSet() returns error? {
     Database database = check mongoClient->getDatabase("testUpdateSetDB");
     Collection collection = check database->getCollection("Movies");
     Movie movie = {name: "Interstellar", year: 2014, rating: 9};
-    check collection->insertOne(movie);
+    _ = check collection->insertOne(movie);
     UpdateResult updateResult = check collection->updateOne({name: "Interstellar"}, {set: {rating: 10}});
     test:assertEquals(updateResult.matchedCount, 1);
     test:assertEquals(updateResult.modifiedCount, 1);
@@ -351,7 +583,7 @@ isolated function testUpdateUnset() returns error? {
             country: "USA"
         }
     };
-    check collection->insertOne(walter);
+    _ = check collection->insertOne(walter);
     UpdateResult updateResult = check collection->updateOne({name: "Walter White"}, {"set": {"address.country": "United States"}});
     test:assertEquals(updateResult.matchedCount, 1);
     test:assertEquals(updateResult.modifiedCount, 1);
@@ -416,6 +648,10 @@ isolated function testUpdateUpsert() returns error? {
     }
     Movie expectedMovie = {name: "Inception", year: 2010, rating: 10};
     test:assertEquals(movieResult.value, expectedMovie);
+
+    // The _id of the upserted document is returned as is when it is not an object ID
+    updateResult = check collection->updateOne({_id: 468569}, {set: {name: "The Dark Knight"}}, {upsert: true});
+    test:assertEquals(updateResult.upsertedId, 468569);
     check result.close();
     check collection->drop();
     check database->drop();
@@ -431,7 +667,7 @@ isolated function testUpdateMany() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 10};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 9};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     UpdateResult updateResult = check collection->updateMany({rating: 9}, {set: {rating: 10}});
     test:assertEquals(updateResult.matchedCount, 2);
     test:assertEquals(updateResult.modifiedCount, 2);
@@ -461,7 +697,7 @@ isolated function testDistinct() returns error? {
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 9};
     Movie movie5 = {name: "Mulholland Drive", year: 2001, rating: 8};
-    check collection->insertMany([movie1, movie2, movie3, movie4, movie5]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4, movie5]);
     stream<int, error?> distinctYears = check collection->'distinct("year");
     int[] expectedResult = [2001, 2008, 2010, 2014];
     int[] actualResult = check from int year in distinctYears
@@ -508,7 +744,7 @@ isolated function testDistinctWithString() returns error? {
         rating: 5,
         tags: ["Science Fiction", "Robots"]
     };
-    check collection->insertMany([book1, book2, book3, book4]);
+    _ = check collection->insertMany([book1, book2, book3, book4]);
     stream<string, error?> distinctTags = check collection->'distinct("tags");
     string[] expectedResult = ["History", "Physics", "Robots", "Science Fiction"];
     string[] actualResult = check from string tag in distinctTags
@@ -555,7 +791,7 @@ isolated function testDistinctWithRecords() returns error? {
             country: "USA"
         }
     };
-    check collection->insertMany([person1, person2, person3]);
+    _ = check collection->insertMany([person1, person2, person3]);
     stream<Address, error?> distinctAddresses = check collection->'distinct("address");
     Address[] expectedResult = [
         {
@@ -587,7 +823,7 @@ isolated function testDeleteOne() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 9};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     DeleteResult deleteResult = check collection->deleteOne({name: "Interstellar"});
     test:assertEquals(deleteResult.deletedCount, 1);
     test:assertTrue(deleteResult.acknowledged);
@@ -611,7 +847,7 @@ isolated function testDeleteMany() returns error? {
     Movie movie2 = {name: "Inception", year: 2010, rating: 9};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 8};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 10};
-    check collection->insertMany([movie1, movie2, movie3, movie4]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
     check collection->createIndex({rating: 1});
     DeleteResult deleteResult = check collection->deleteMany({rating: {\$gte: 9}});
     test:assertEquals(deleteResult.deletedCount, 3, "Invalid delete count");
@@ -636,7 +872,7 @@ isolated function testAggregate() returns error? {
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
     Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 9};
     Movie movie5 = {name: "Mulholland Drive", year: 2001, rating: 8};
-    check collection->insertMany([movie1, movie2, movie3, movie4, movie5]);
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4, movie5]);
 
     stream<record {int _id; int count;}, error?> result = check collection->aggregate([
         {
@@ -671,6 +907,275 @@ isolated function testAggregate() returns error? {
     check database->drop();
 }
 
+@test:Config {
+    groups: ["collection", "aggregate", "prepared"]
+}
+isolated function testAggregatePrepared() returns error? {
+    Database database = check mongoClient->getDatabase("testAggregatePreparedDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie movie1 = {name: "Interstellar", year: 2014, rating: 9};
+    Movie movie2 = {name: "Inception", year: 2010, rating: 9};
+    Movie movie3 = {name: "Shutter Island", year: 2010, rating: 8};
+    Movie movie4 = {name: "The Dark Knight", year: 2008, rating: 9};
+    _ = check collection->insertMany([movie1, movie2, movie3, movie4]);
+
+    PreparedPipeline pipeline = check new ([
+        {"$match": {rating: param("rating"), year: {"$gte": param("year")}}},
+        {"$group": {_id: "$year", count: {"$sum": 1}}},
+        {"$sort": {_id: 1}}
+    ]);
+    stream<record {int _id; int count;}, error?> result = check collection->aggregatePrepared(pipeline,
+        {rating: 9, year: 2010});
+    record {int _id; int count;}[] actualResult = check from record {int _id; int count;} movie in result
+        select movie;
+    test:assertEquals(actualResult, [{_id: 2010, count: 1}, {_id: 2014, count: 1}]);
+
+    result = check collection->aggregatePrepared(pipeline, {rating: 8, year: 2000});
+    actualResult = check from record {int _id; int count;} movie in result
+        select movie;
+    test:assertEquals(actualResult, [{_id: 2010, count: 1}]);
+
+    stream<record {int _id; int count;}, error?>|Error missingParameter =
+        collection->aggregatePrepared(pipeline, {rating: 9});
+    if missingParameter !is ApplicationError {
+        test:assertFail("Expected an ApplicationError for the missing parameter");
+    }
+    test:assertEquals(missingParameter.message(), "The value of the parameter 'year' is not provided.");
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "find", "update", "delete", "prepared"]
+}
+isolated function testPreparedQuery() returns error? {
+    Database database = check mongoClient->getDatabase("testPreparedQueryDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie movie1 = {name: "Interstellar", year: 2014, rating: 9};
+    Movie movie2 = {name: "Inception", year: 2010, rating: 9};
+    Movie movie3 = {name: "Shutter Island", year: 2010, rating: 8};
+    _ = check collection->insertMany([movie1, movie2, movie3]);
+
+    PreparedQuery byYear = check new (filter = {year: param("year")}, sort = {rating: -1});
+    stream<Movie, error?> result = check collection->findPrepared(byYear, {year: 2010});
+    Movie[] movies = check from Movie movie in result
+        select movie;
+    test:assertEquals(movies, [movie2, movie3]);
+    test:assertEquals(check collection->countDocumentsPrepared(byYear, {year: 2014}), 1);
+
+    PreparedQuery byName = check new (filter = {name: param("name")}, update = {set: {rating: param("rating")}},
+        projection = {_id: 0, name: 1});
+    record {|string name;|}? movieName = check collection->findOnePrepared(byName, {name: "Inception"});
+    test:assertEquals(movieName, {name: "Inception"});
+
+    UpdateResult updateResult = check collection->updateOnePrepared(byName, {name: "Inception", rating: 10});
+    test:assertEquals(updateResult.modifiedCount, 1);
+    Movie? updatedMovie = check collection->findOne({name: "Inception"});
+    test:assertEquals(updatedMovie, {name: "Inception", year: 2010, rating: 10});
+
+    UpdateResult|Error missingUpdate = collection->updateManyPrepared(byYear, {year: 2010});
+    if missingUpdate !is ApplicationError {
+        test:assertFail("Expected an ApplicationError for the query without an update");
+    }
+    test:assertEquals(missingUpdate.message(), "The prepared query does not have an update.");
+
+    DeleteResult deleteResult = check collection->deleteOnePrepared(byName, {name: "Interstellar"});
+    test:assertEquals(deleteResult.deletedCount, 1);
+    deleteResult = check collection->deleteManyPrepared(byYear, {year: 2010});
+    test:assertEquals(deleteResult.deletedCount, 2);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "findOneAndModify"]
+}
+isolated function testFindOneAndModify() returns error? {
+    Database database = check mongoClient->getDatabase("testFindOneAndModifyDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie movie1 = {name: "Interstellar", year: 2014, rating: 8};
+    Movie movie2 = {name: "Inception", year: 2010, rating: 9};
+    _ = check collection->insertMany([movie1, movie2]);
+
+    Movie? before = check collection->findOneAndUpdate({name: "Interstellar"}, {inc: {rating: 1}});
+    test:assertEquals(before, movie1);
+    Movie? after = check collection->findOneAndUpdate({name: "Interstellar"}, {inc: {rating: 1}},
+        {returnDocument: AFTER});
+    test:assertEquals(after, {name: "Interstellar", year: 2014, rating: 10});
+
+    record {|string name;|}? upserted = check collection->findOneAndUpdate({name: "Tenet"},
+        {set: {year: 2020, rating: 7}}, {upsert: true, returnDocument: AFTER});
+    test:assertEquals(upserted, {name: "Tenet"});
+    Movie? missing = check collection->findOneAndUpdate({name: "Dunkirk"}, {set: {rating: 7}});
+    test:assertEquals(missing, ());
+
+    Movie replacement = {name: "Inception", year: 2010, rating: 6};
+    Movie? replaced = check collection->findOneAndReplace({year: {"$gte": 2010}}, replacement,
+        {sort: {year: 1}, returnDocument: AFTER});
+    test:assertEquals(replaced, replacement);
+
+    record {|string name; int rating;|}? deleted = check collection->findOneAndDelete({}, {sort: {rating: -1}});
+    test:assertEquals(deleted, {name: "Interstellar", rating: 10});
+    test:assertEquals(check collection->countDocuments(), 2);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "find", "aggregate", "delete", "hint"]
+}
+isolated function testQueryHintsAndCollation() returns error? {
+    Database database = check mongoClient->getDatabase("testQueryHintsDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie movie1 = {name: "interstellar", year: 2014, rating: 9};
+    Movie movie2 = {name: "Inception", year: 2010, rating: 9};
+    Movie movie3 = {name: "INTERSTELLAR", year: 2015, rating: 7};
+    _ = check collection->insertMany([movie1, movie2, movie3]);
+    check collection->createIndex({year: 1});
+
+    Collation caseInsensitive = {locale: "en", strength: 2};
+    stream<Movie, error?> result = check collection->find({name: "Interstellar"}, {
+        collation: caseInsensitive,
+        hintString: "year_1",
+        sort: {year: 1},
+        maxTimeMS: 10000,
+        comment: "testQueryHintsAndCollation"
+    });
+    Movie[] movies = check from Movie movie in result
+        select movie;
+    test:assertEquals(movies, [movie1, movie3]);
+
+    Movie? movie = check collection->findOne({}, {hint: {year: 1}, min: {year: 2011}, max: {year: 2015}});
+    test:assertEquals(movie, movie1);
+
+    stream<Movie, error?> aggregateResult = check collection->aggregate([{\$match: {name: "inception"}}],
+        options = {collation: caseInsensitive, hint: {year: 1}});
+    movies = check from Movie aggregatedMovie in aggregateResult
+        select aggregatedMovie;
+    test:assertEquals(movies, [movie2]);
+
+    stream<Movie, error?>|Error invalidHint = collection->find({}, {hintString: "rating_1"});
+    if invalidHint is stream<Movie, error?> {
+        record {|Movie value;|}|error? next = invalidHint.next();
+        if next !is error {
+            test:assertFail("Expected an error for the hint of a missing index");
+        }
+    }
+
+    DeleteResult deleteResult = check collection->deleteMany({name: "interstellar"}, {collation: caseInsensitive});
+    test:assertEquals(deleteResult.deletedCount, 2);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "find", "cache"]
+}
+isolated function testResultCache() returns error? {
+    Database database = check mongoClient->getDatabase("testResultCacheDB");
+    Collection collection = check database->getCollection("Movies", {resultCache: {maxEntries: 2}});
+    Collection uncachedCollection = check database->getCollection("Movies");
+    test:assertEquals(uncachedCollection.getResultCacheStats(), ());
+    Movie movie1 = {name: "Interstellar", year: 2014, rating: 8};
+    Movie movie2 = {name: "Inception", year: 2010, rating: 9};
+    _ = check collection->insertMany([movie1, movie2]);
+
+    Movie? movie = check collection->findOne({name: "Interstellar"});
+    test:assertEquals(movie, movie1);
+    movie = check collection->findOne({name: "Interstellar"});
+    test:assertEquals(movie, movie1);
+    test:assertEquals(check collection->countDocuments(), 2);
+    test:assertEquals(check collection->countDocuments(), 2);
+    stream<Movie, error?> result = check collection->find({}, {sort: {year: 1}});
+    Movie[] movies = check from Movie item in result
+        select item;
+    test:assertEquals(movies, [movie2, movie1]);
+    result = check collection->find({}, {sort: {year: 1}});
+    movies = check from Movie item in result
+        select item;
+    test:assertEquals(movies, [movie2, movie1]);
+
+    ResultCacheStats? stats = collection.getResultCacheStats();
+    if stats is () {
+        test:assertFail("Expected the statistics of the result cache");
+    }
+    test:assertEquals(stats.hits, 3);
+    test:assertEquals(stats.misses, 3);
+    test:assertEquals(stats.evictions, 1);
+    test:assertEquals(stats.entries, 2);
+    test:assertTrue(stats.bytes > 0);
+
+    // A write through another collection of the same client invalidates the cached results
+    _ = check uncachedCollection->updateOne({name: "Interstellar"}, {set: {rating: 10}});
+    movie = check collection->findOne({name: "Interstellar"});
+    test:assertEquals(movie, {name: "Interstellar", year: 2014, rating: 10});
+    stats = collection.getResultCacheStats();
+    if stats is () {
+        test:assertFail("Expected the statistics of the result cache");
+    }
+    test:assertEquals(stats.misses, 4);
+    test:assertEquals(stats.invalidations, 2);
+    test:assertEquals(stats.entries, 1);
+
+    // An aggregation with an output stage invalidates the cached results of its output collection
+    Collection topMovies = check database->getCollection("TopMovies", {resultCache: {maxEntries: 2}});
+    test:assertEquals(check topMovies->countDocuments(), 0);
+    stream<Movie, error?> outResult = check uncachedCollection->aggregate([
+        {\$match: {rating: {\$gt: 9}}},
+        {\$out: "TopMovies"}
+    ], targetType = Movie);
+    check outResult.close();
+    test:assertEquals(check topMovies->countDocuments(), 1);
+    stream<Movie, error?> mergeResult = check uncachedCollection->aggregate([
+        {\$match: {name: "Inception"}},
+        {\$merge: {into: {db: "testResultCacheDB", coll: "TopMovies"}}}
+    ], targetType = Movie);
+    check mergeResult.close();
+    test:assertEquals(check topMovies->countDocuments(), 2);
+    check topMovies->drop();
+
+    Collection|Error invalidCollection = database->getCollection("Movies", {resultCache: {ttl: 0}});
+    test:assertTrue(invalidCollection is ApplicationError);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "find", "coalescing"]
+}
+isolated function testLookupCoalescing() returns error? {
+    Database database = check mongoClient->getDatabase("testLookupCoalescingDB");
+    Collection collection = check database->getCollection("Movies",
+        {lookupCoalescing: {window: 0.5, maxBatchSize: 10}});
+    test:assertEquals((check database->getCollection("Movies")).getLookupCoalescingStats(), ());
+    _ = check collection->insertMany([
+        {_id: "m1", name: "Interstellar", year: 2014, rating: 8},
+        {_id: "m2", name: "Inception", year: 2010, rating: 9}
+    ]);
+
+    future<Movie|Error?> f1 = start findMovieById(collection, "m1");
+    future<Movie|Error?> f2 = start findMovieById(collection, "m2");
+    future<Movie|Error?> f3 = start findMovieById(collection, "m1");
+    future<Movie|Error?> f4 = start findMovieById(collection, "m3");
+    test:assertEquals(check wait f1, {name: "Interstellar", year: 2014, rating: 8});
+    test:assertEquals(check wait f2, {name: "Inception", year: 2010, rating: 9});
+    test:assertEquals(check wait f3, {name: "Interstellar", year: 2014, rating: 8});
+    test:assertEquals(check wait f4, ());
+    // The four lookups are retrieved with a single query, and the lookups of "m1" share the same result
+    test:assertEquals(collection.getLookupCoalescingStats(), {lookups: 4, queries: 1, sharedLookups: 1});
+
+    // The lookups projecting the _id and the filters on other fields return the same results as without coalescing
+    record {|string _id; string name;|}? movie = check collection->findOne({_id: "m2"});
+    test:assertEquals(movie, {_id: "m2", name: "Inception"});
+    Movie? missing = check collection->findOne({_id: "m2", year: 2014});
+    test:assertEquals(missing, ());
+
+    Collection|Error invalidCollection = database->getCollection("Movies", {lookupCoalescing: {maxBatchSize: 0}});
+    test:assertTrue(invalidCollection is ApplicationError);
+    check collection->drop();
+    check database->drop();
+}
+
 @test:Config {
     groups: ["collection", "insert", "find", "projection"]
 }
@@ -687,7 +1192,7 @@ isolated function testComplexFind() returns error? {
     Author author1 = {name: "Paulo Coelho", books: [book1, book2, book3]};
     Author author2 = {name: "George R. R. Martin", books: [book4, book5, book6]};
 
-    check collection->insertMany([author1, author2]);
+    _ = check collection->insertMany([author1, author2]);
     stream<record {|
         string name;
         record {|string title;|}[] books;
@@ -738,7 +1243,7 @@ isolated function testComplexAggregationProjection() returns error? {
     Author author1 = {name: "Paulo Coelho", books: [book1, book2, book3]};
     Author author2 = {name: "George R. R. Martin", books: [book4, book5, book6]};
 
-    check collection->insertMany([author1, author2]);
+    _ = check collection->insertMany([author1, author2]);
     stream<record {|
         string name;
         record {|string title; int rating;|}[] books;
@@ -819,7 +1324,7 @@ isolated function testAggregationWithManualProjection() returns error? {
     Author author1 = {name: "Paulo Coelho", books: [book1, book2, book3]};
     Author author2 = {name: "George R. R. Martin", books: [book4, book5, book6]};
 
-    check collection->insertMany([author1, author2]);
+    _ = check collection->insertMany([author1, author2]);
     stream<record {|string name;|}, error?> result = check collection->aggregate([
         {
             \$match: {
@@ -863,7 +1368,7 @@ isolated function testAggregationWithInvalidManualProjection() returns error? {
     Author author1 = {name: "Paulo Coelho", books: [book1, book2, book3]};
     Author author2 = {name: "George R. R. Martin", books: [book4, book5, book6]};
 
-    check collection->insertMany([author1, author2]);
+    _ = check collection->insertMany([author1, author2]);
     stream<Author, error?> result = check collection->aggregate([
         {
             \$match: {
@@ -902,7 +1407,7 @@ isolated function testAggregateWithUnionType() returns error? {
     Movie movie1 = {name: "Interstellar", year: 2014, rating: 9};
     Movie movie2 = {name: "Inception", year: 2010, rating: 8};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
-    check collection->insertMany([book1, book2, book3, movie1, movie2, movie3]);
+    _ = check collection->insertMany([book1, book2, book3, movie1, movie2, movie3]);
     stream<BookOrMovie, error?> result = check collection->aggregate([
         {
             \$match: {
@@ -932,7 +1437,7 @@ isolated function testAggregateWithUnionTypeSelectedFields() returns error? {
     Movie movie1 = {name: "Interstellar", year: 2014, rating: 9};
     Movie movie2 = {name: "Inception", year: 2010, rating: 8};
     Movie movie3 = {name: "Shutter Island", year: 2010, rating: 9};
-    check collection->insertMany([book1, book2, book3, movie1, movie2, movie3]);
+    _ = check collection->insertMany([book1, book2, book3, movie1, movie2, movie3]);
     stream<record {|string title?; string name?; int rating;|}, error?> result = check collection->aggregate([
         {
             \$match: {
@@ -963,7 +1468,7 @@ isolated function testEmptyPipelineAggregation() returns error? {
 
     Movie movie1 = {name: "Interstellar", year: 2014, rating: 9};
     Movie movie2 = {name: "Inception", year: 2010, rating: 8};
-    check collection->insertMany([movie1, movie2]);
+    _ = check collection->insertMany([movie1, movie2]);
 
     stream<Movie, error?> result = check collection->aggregate([]);
     Movie[] expectedResult = [movie1, movie2];
@@ -989,7 +1494,7 @@ isolated function testNestedArrayElementProjection() returns error? {
             {name: "Phone", price: 699.99, variants: [{size: "6inch", color: "Black", stock: 5}]}
         ]
     };
-    check collection->insertOne(catalog1);
+    _ = check collection->insertOne(catalog1);
 
     stream<record {|
         string category;
@@ -1034,7 +1539,7 @@ isolated function testDeepNestedProjection() returns error? {
             ]
         }
     };
-    check collection->insertOne(dept);
+    _ = check collection->insertOne(dept);
 
     stream<record {|
         string name;
@@ -1082,7 +1587,7 @@ isolated function testNullFieldHandling() returns error? {
 
     map<json> product1 = {name: "Basic Product", price: 99.99, tags: ()};
     map<json> product2 = {name: "Premium Product", price: 199.99, tags: ["premium", "featured"]};
-    check collection->insertMany([product1, product2]);
+    _ = check collection->insertMany([product1, product2]);
 
     stream<record {|string name; string[]? tags;|}, error?> result = check collection->find();
     record {|string name; string[]? tags;|}[] actualResult = check from record {|string name; string[]? tags;|} product
@@ -1105,7 +1610,7 @@ isolated function testUnionTypeAllOptionalFieldsMissing() returns error? {
 
     map<json> item1 = {id: "item1", rating: 8};
     map<json> item2 = {id: "item2", rating: 9};
-    check collection->insertMany([item1, item2]);
+    _ = check collection->insertMany([item1, item2]);
 
     stream<record {|string title?; string name?; int rating;|}, error?> result = check collection->aggregate([
         {\$match: {rating: {\$gte: 8}}}
@@ -1146,7 +1651,7 @@ isolated function testMultiLevelNestedRecordProjection() returns error? {
             ]
         }
     };
-    check collection->insertOne(dept);
+    _ = check collection->insertOne(dept);
 
     stream<record {|
         string name;
@@ -1183,7 +1688,7 @@ isolated function testTypeCoercionEdgeCases() returns error? {
 
     map<json> doc1 = {id: 1, value: "string_value", number: 42};
     map<json> doc2 = {id: 2, value: 123, number: "456"};
-    check collection->insertMany([doc1, doc2]);
+    _ = check collection->insertMany([doc1, doc2]);
 
     stream<record {|int id; int|string value; int|string number;|}, error?> result = check collection->find();
     record {|int id; int|string value; int|string number;|}[] actualResult = check
@@ -1210,7 +1715,7 @@ public function testInsertEmptyDocument() returns error? {
 
     // Insert empty JSON object
     map<json> emptyDoc = {};
-    check collection->insertOne(emptyDoc);
+    _ = check collection->insertOne(emptyDoc);
 
     // Verify it was inserted with MongoDB-generated _id
     stream<record {map<string> _id;}, error?> results = check collection->find();
@@ -1236,11 +1741,11 @@ public function testInsertDuplicateKeys() returns error? {
     check collection->createIndex({name: 1}, {unique: true});
 
     Movie movie1 = {name: "Unique Movie", year: 2024, rating: 8};
-    check collection->insertOne(movie1);
+    _ = check collection->insertOne(movie1);
 
     // Try to insert document with same unique field - should fail
     Movie movie2 = {name: "Unique Movie", year: 2025, rating: 9};
-    Error? result = collection->insertOne(movie2);
+    InsertOneResult|Error result = collection->insertOne(movie2);
     test:assertTrue(result is Error, "Expected error for duplicate unique key");
     if result is Error {
         string expectedMessage = "E11000 duplicate key error collection: duplicateKeyTest.uniqueDocs index: name_1 dup key: { name: \"Unique Movie\" }";
@@ -1258,7 +1763,7 @@ public function testConcurrentUpdates() returns error? {
     Collection collection = check database->getCollection("concurrentDocs");
 
     // Insert test document
-    check collection->insertOne({"name": "Concurrent", "counter": 0});
+    _ = check collection->insertOne({"name": "Concurrent", "counter": 0});
 
     // Perform concurrent updates
     future<UpdateResult|Error> f1 = start updateCounter(collection);
@@ -1316,7 +1821,7 @@ public function testAggregationWithInvalidStages() returns error? {
     Database database = check mongoClient->getDatabase("invalidPipelineTest");
     Collection collection = check database->getCollection("aggregateDocs");
 
-    check collection->insertOne({"name": "Interstellar", "year": 2014, "rating": 8});
+    _ = check collection->insertOne({"name": "Interstellar", "year": 2014, "rating": 8});
 
     // Test aggregation with potentially problematic stages
     map<json>[][] problematicPipelines = [
@@ -1343,7 +1848,7 @@ public function testDistinctOnNonExistentField() returns error? {
         {name: "Movie1", year: 2020, rating: 8},
         {name: "Movie2", year: 2021, rating: 9}
     ];
-    check collection->insertMany(movies);
+    _ = check collection->insertMany(movies);
 
     // Distinct on non-existent field should return empty results
     stream<string, error?> results = check collection->'distinct("nonExistentField");
@@ -1378,7 +1883,7 @@ public function testFindWithComplexNestedQuery() returns error? {
         },
         simpleField: "simple"
     };
-    check collection->insertOne(deepDoc);
+    _ = check collection->insertOne(deepDoc);
 
     // Query deep nested fields
     map<json>[] complexQueries = [
@@ -1413,7 +1918,7 @@ public function testInsertManyWithMixedSuccessFailure() returns error? {
     check collection->createIndex({name: 1}, {unique: true});
 
     // Insert one document first
-    check collection->insertOne({"name": "Existing", "year": 2020, "rating": 7});
+    _ = check collection->insertOne({"name": "Existing", "year": 2020, "rating": 7});
 
     // Try to insert array with some duplicates
     map<json>[] docs = [
@@ -1422,7 +1927,7 @@ public function testInsertManyWithMixedSuccessFailure() returns error? {
         {name: "New2", year: 2023, rating: 7}
     ];
 
-    Error? result = collection->insertMany(docs, {ordered: false});
+    InsertManyResult|Error result = collection->insertMany(docs, {ordered: false});
     test:assertTrue(result is Error, "Expected error for mixed success failure");
     int count = check collection->countDocuments();
     test:assertTrue(count >= 2, "At least original + one new document should exist");
@@ -1439,7 +1944,7 @@ public function testFindWithInvalidQuery() returns error? {
     Collection collection = check database->getCollection("testDocs");
 
     // Insert test data
-    check collection->insertOne({"name": "Interstellar", "year": 2014, "rating": 8});
+    _ = check collection->insertOne({"name": "Interstellar", "year": 2014, "rating": 8});
 
     // Test various potentially problematic queries
     map<json>[] problematicQueries = [
@@ -1480,7 +1985,7 @@ public function testProjectionEdgeCases() returns error? {
             {arrayField: "arrayValue2"}
         ]
     };
-    check collection->insertOne(doc);
+    _ = check collection->insertOne(doc);
 
     // Test various projection edge cases
     map<json>[] projections = [
@@ -1515,7 +2020,7 @@ public function testIndexOnNonExistentField() returns error? {
     check collection->createIndex({nonExistentField: 1});
 
     // Insert document without the indexed field
-    check collection->insertOne({"name": "Interstellar", "year": 2014});
+    _ = check collection->insertOne({"name": "Interstellar", "year": 2014});
 
     // Query using the non-existent field
     stream<record {|anydata...;|}, error?> results = check collection->find({nonExistentField: "value"});
@@ -1538,3 +2043,273 @@ public function testIndexOnNonExistentField() returns error? {
 }
 
 
+
+@test:Config {
+    groups: ["collection", "bulkWrite"]
+}
+isolated function testBulkWrite() returns error? {
+    Database database = check mongoClient->getDatabase("testBulkWriteDB");
+    Collection collection = check database->getCollection("Movies");
+    _ = check collection->insertMany([
+        {name: "Interstellar", year: 2014, rating: 9},
+        {name: "Inception", year: 2010, rating: 9},
+        {name: "Tenet", year: 2020, rating: 7}
+    ]);
+
+    BulkWriteResult result = check collection->bulkWrite([
+        {document: {name: "The Dark Knight", year: 2008, rating: 9}},
+        <UpdateOneModel>{filter: {name: "Interstellar"}, update: {set: {rating: 10}}},
+        <UpdateManyModel>{filter: {rating: 9}, update: {inc: {rating: -1}}},
+        {filter: {name: "Memento"}, replacement: {name: "Memento", year: 2000, rating: 8}, upsert: true},
+        <DeleteOneModel>{filter: {name: "Tenet"}}
+    ]);
+    test:assertEquals(result.insertedCount, 1);
+    test:assertEquals(result.matchedCount, 3);
+    test:assertEquals(result.modifiedCount, 3);
+    test:assertEquals(result.deletedCount, 1);
+    test:assertEquals(result.upserts.length(), 1);
+    test:assertEquals(result.upserts[0].index, 3);
+    test:assertEquals(result.writeErrors, []);
+    test:assertTrue(result.acknowledged);
+
+    stream<Movie, error?> movies = check collection->find({}, {sort: {year: 1}});
+    Movie[] actualResult = check from Movie movie in movies
+        select movie;
+    Movie[] expectedResult = [
+        {name: "Memento", year: 2000, rating: 8},
+        {name: "The Dark Knight", year: 2008, rating: 8},
+        {name: "Inception", year: 2010, rating: 8},
+        {name: "Interstellar", year: 2014, rating: 10}
+    ];
+    test:assertEquals(actualResult, expectedResult);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "bulkWrite", "negative"]
+}
+isolated function testUnorderedBulkWriteWithErrors() returns error? {
+    Database database = check mongoClient->getDatabase("testUnorderedBulkWriteWithErrorsDB");
+    Collection collection = check database->getCollection("Movies");
+    check collection->createIndex({name: 1}, {unique: true});
+
+    BulkWriteResult result = check collection->bulkWrite([
+        {document: {name: "Interstellar", year: 2014, rating: 9}},
+        {document: {name: "Interstellar", year: 2014, rating: 9}},
+        {document: {name: "Inception", year: 2010, rating: 9}}
+    ], {ordered: false});
+    test:assertEquals(result.insertedCount, 2);
+    test:assertEquals(result.writeErrors.length(), 1);
+    test:assertEquals(result.writeErrors[0].index, 1);
+    test:assertEquals(result.writeErrors[0].code, 11000);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "insert", "insertStream"]
+}
+isolated function testInsertStream() returns error? {
+    Database database = check mongoClient->getDatabase("testInsertStreamDB");
+    Collection collection = check database->getCollection("Movies");
+    Movie[] movies = from int i in 0 ..< 25
+        select {name: string `Movie ${i}`, year: 2000 + i, rating: i % 10};
+    stream<Movie> movieStream = movies.toStream();
+
+    InsertStreamResult result = check collection->insertStream(movieStream, {batchSize: 10});
+    test:assertEquals(result.insertedCount, 25);
+    test:assertEquals(result.batchCount, 3);
+    test:assertEquals(result.failedBatches.length(), 0);
+    test:assertEquals(check collection->countDocuments(), 25);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "insert", "insertStream"]
+}
+isolated function testInsertStreamWithPartialFailures() returns error? {
+    Database database = check mongoClient->getDatabase("testInsertStreamWithPartialFailuresDB");
+    Collection collection = check database->getCollection("Movies");
+    check collection->createIndex({name: 1}, {unique: true});
+    Movie[] movies = [
+        {name: "Interstellar", year: 2014, rating: 9},
+        {name: "Interstellar", year: 2014, rating: 9},
+        {name: "Inception", year: 2010, rating: 9},
+        {name: "Tenet", year: 2020, rating: 7}
+    ];
+
+    InsertStreamResult result = check collection->insertStream(movies.toStream(), {batchSize: 2, ordered: false});
+    test:assertEquals(result.insertedCount, 3);
+    test:assertEquals(result.batchCount, 2);
+    test:assertEquals(result.failedBatches.length(), 1);
+    test:assertEquals(result.failedBatches[0].batchIndex, 0);
+    test:assertEquals(result.failedBatches[0].writeErrors[0].index, 1);
+
+    _ = check collection->deleteMany({});
+    result = check collection->insertStream(movies.toStream(), {batchSize: 2, maxBatchBytes: 100});
+    test:assertEquals(result.insertedCount, 1);
+    test:assertEquals(result.batchCount, 2);
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "insert", "insertStream"]
+}
+isolated function testInsertStreamWithReadError() returns error? {
+    Database database = check mongoClient->getDatabase("testInsertStreamWithReadErrorDB");
+    Collection collection = check database->getCollection("Movies");
+    FailingMovieIterator iterator = new (3);
+    stream<Movie, error?> movieStream = new (iterator);
+    InsertStreamResult|Error result = collection->insertStream(movieStream, {batchSize: 2});
+    test:assertTrue(result is ApplicationError);
+    test:assertTrue(iterator.isClosed());
+    // The batches completed before the error are inserted
+    test:assertEquals(check collection->countDocuments(), 2);
+    check collection->drop();
+    check database->drop();
+}
+
+isolated class FailingMovieIterator {
+    private final int failAt;
+    private int index = 0;
+    private boolean closed = false;
+
+    isolated function init(int failAt) {
+        self.failAt = failAt;
+    }
+
+    public isolated function next() returns record {|Movie value;|}|error? {
+        lock {
+            if self.index == self.failAt {
+                return error("Error occurred while reading the movie");
+            }
+            self.index += 1;
+            return {value: {name: string `Movie ${self.index}`, year: 2000 + self.index, rating: 5}};
+        }
+    }
+
+    public isolated function close() returns error? {
+        lock {
+            self.closed = true;
+        }
+    }
+
+    isolated function isClosed() returns boolean {
+        lock {
+            return self.closed;
+        }
+    }
+}
+
+type MovieChangeEvent record {|
+    *ChangeStreamEvent;
+    Movie fullDocument?;
+|};
+
+@test:Config {
+    groups: ["collection", "watch", "replicaSet"],
+    enable: false // Configure the replica set properly with a primary node and enable this test
+}
+isolated function testWatchCollection() returns error? {
+    Client replicaSetClient = check new (replicaSetConfig);
+    Database database = check replicaSetClient->getDatabase("testWatchCollectionDB");
+    Collection collection = check database->getCollection("Movies");
+    stream<MovieChangeEvent, error?> changes = check collection->watch({
+        pipeline: [{\$match: {operationType: {\$in: ["insert", "update"]}}}],
+        fullDocument: UPDATE_LOOKUP,
+        batchSize: 10,
+        maxAwaitTimeMS: 1000
+    });
+    _ = check collection->insertOne({name: "Interstellar", year: 2014, rating: 9});
+    _ = check collection->updateOne({name: "Interstellar"}, {set: {rating: 10}});
+
+    record {|MovieChangeEvent value;|}? insertEvent = check changes.next();
+    if insertEvent is () {
+        test:assertFail("Expected an insert event");
+    }
+    test:assertEquals(insertEvent.value.operationType, "insert");
+    test:assertEquals(insertEvent.value.fullDocument?.rating, 9);
+    check changes.close();
+
+    // Resume the change stream after the insert event to get the update event
+    changes = check collection->watch({resumeAfter: insertEvent.value._id, fullDocument: UPDATE_LOOKUP});
+    record {|MovieChangeEvent value;|}? updateEvent = check changes.next();
+    if updateEvent is () {
+        test:assertFail("Expected an update event");
+    }
+    test:assertEquals(updateEvent.value.operationType, "update");
+    test:assertEquals(updateEvent.value.fullDocument?.rating, 10);
+    test:assertEquals(updateEvent.value.updateDescription?.updatedFields, {rating: 10});
+    check changes.close();
+    check collection->drop();
+    check database->drop();
+    check replicaSetClient->close();
+}
+
+@test:Config {
+    groups: ["collection", "session"]
+}
+isolated function testOperationsWithSession() returns error? {
+    Database database = check mongoClient->getDatabase("testOperationsWithSessionDB");
+    Collection collection = check database->getCollection("Movies");
+    Session session = check mongoClient->startSession();
+    _ = check collection->insertOne({name: "Interstellar", year: 2014, rating: 9}, session = session);
+    _ = check collection->insertMany([
+        {name: "Inception", year: 2010, rating: 9},
+        {name: "Tenet", year: 2020, rating: 7}
+    ], session = session);
+    _ = check collection->updateOne({name: "Tenet"}, {set: {rating: 8}}, session = session);
+
+    // Reads of a causally consistent session observe the preceding writes of the session
+    Movie? movie = check collection->findOne({name: "Tenet"}, session = session);
+    test:assertEquals(movie?.rating, 8);
+    int count = check collection->countDocuments(session = session);
+    test:assertEquals(count, 3);
+    stream<Movie, error?> movies = check collection->find({year: {"$gt": 2012}}, {sort: {year: 1}},
+        session = session);
+    string[] names = check from Movie m in movies select m.name;
+    test:assertEquals(names, ["Interstellar", "Tenet"]);
+    check session->close();
+    check collection->drop();
+    check database->drop();
+}
+
+@test:Config {
+    groups: ["collection", "session", "replicaSet"],
+    enable: false // Configure the replica set properly with a primary node and enable this test
+}
+isolated function testWithTransaction() returns error? {
+    Client replicaSetClient = check new (replicaSetConfig);
+    Database database = check replicaSetClient->getDatabase("testWithTransactionDB");
+    final Collection collection = check database->getCollection("Movies");
+    _ = check collection->insertOne({name: "Interstellar", year: 2014, rating: 9});
+    Session session = check replicaSetClient->startSession();
+
+    check session->withTransaction(isolated function(Session txSession) returns error? {
+        _ = check collection->updateOne({name: "Interstellar"}, {set: {rating: 10}}, session = txSession);
+        _ = check collection->insertOne({name: "Inception", year: 2010, rating: 9}, session = txSession);
+    }, {readConcern: SNAPSHOT, writeConcern: "majority"});
+    test:assertEquals(check collection->countDocuments(), 2);
+
+    // The changes of an aborted transaction are discarded
+    check session->startTransaction();
+    _ = check collection->insertOne({name: "Tenet", year: 2020, rating: 7}, session = session);
+    test:assertEquals(check collection->countDocuments(session = session), 3);
+    check session->abortTransaction();
+    test:assertEquals(check collection->countDocuments(), 2);
+
+    // The transaction is aborted when the function returns an error
+    error? result = session->withTransaction(isolated function(Session txSession) returns error? {
+        _ = check collection->insertOne({name: "Tenet", year: 2020, rating: 7}, session = txSession);
+        return error("Failed to process the movie");
+    });
+    test:assertTrue(result is error);
+    test:assertEquals(check collection->countDocuments(), 2);
+    check session->close();
+    check collection->drop();
+    check database->drop();
+    check replicaSetClient->close();
+}
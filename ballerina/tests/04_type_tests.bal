@@ -45,7 +45,7 @@ isolated function testRecordWithMapFields() returns error? {
         }
     };
 
-    check collection->insertOne(userProfile);
+    _ = check collection->insertOne(userProfile);
 
     UserProfile? result = check collection->findOne();
     test:assertTrue(result is UserProfile, "Expected UserProfile record");
@@ -87,7 +87,7 @@ isolated function testRecordWithNestedMapFields() returns error? {
         }
     };
 
-    check collection->insertOne(configData);
+    _ = check collection->insertOne(configData);
 
     ConfigData? result = check collection->findOne();
     test:assertTrue(result is ConfigData, "Expected ConfigData record");
@@ -128,7 +128,7 @@ isolated function testRecordWithComplexMapTypes() returns error? {
         }
     };
 
-    check collection->insertOne(userSettings);
+    _ = check collection->insertOne(userSettings);
 
     UserSettings? result = check collection->findOne();
     test:assertTrue(result is UserSettings, "Expected UserSettings record");
@@ -157,7 +157,7 @@ isolated function testRecordWithIntersectionTypes() returns error? {
         email: "alice@example.com"
     };
 
-    check collection->insertOne(readonlyUser);
+    _ = check collection->insertOne(readonlyUser);
 
     ReadonlyUser? result = check collection->findOne();
     test:assertTrue(result is ReadonlyUser, "Expected ReadonlyUser record");
@@ -188,7 +188,7 @@ isolated function testRecordWithIntersectionAndMapTypes() returns error? {
         version: 2
     };
 
-    check collection->insertOne(immutableConfig);
+    _ = check collection->insertOne(immutableConfig);
 
     ImmutableConfig? result = check collection->findOne();
     test:assertTrue(result is ImmutableConfig, "Expected ImmutableConfig record");
@@ -222,7 +222,7 @@ isolated function testRecordWithCompositeIntersectionTypes() returns error? {
         hobbies: ["reading", "hiking", "programming"]
     };
 
-    check collection->insertOne(userWithAddress);
+    _ = check collection->insertOne(userWithAddress);
 
     UserWithAddress? result = check collection->findOne();
     test:assertTrue(result is UserWithAddress, "Expected UserWithAddress record");
@@ -254,7 +254,7 @@ isolated function testRecordWithNeverTypeFields() returns error? {
         }
     };
 
-    check collection->insertOne(restrictedData);
+    _ = check collection->insertOne(restrictedData);
 
     RestrictedData? result = check collection->findOne();
     test:assertTrue(result is RestrictedData, "Expected RestrictedData record");
@@ -285,7 +285,7 @@ isolated function testRecordWithNeverAndMapFields() returns error? {
         }
     };
 
-    check collection->insertOne(systemConfig);
+    _ = check collection->insertOne(systemConfig);
 
     SystemConfig? result = check collection->findOne();
     test:assertTrue(result is SystemConfig, "Expected SystemConfig record");
@@ -327,7 +327,7 @@ isolated function testBatchOperationsWithMapFields() returns error? {
         }
     ];
 
-    check collection->insertMany(userProfiles);
+    _ = check collection->insertMany(userProfiles);
 
     stream<UserProfile, error?> results = check collection->find();
     UserProfile[] actualResults = check from UserProfile profile in results
@@ -356,7 +356,7 @@ isolated function testBatchOperationsWithIntersectionTypes() returns error? {
         {name: "Charlie", age: 35, email: "charlie@example.com"}
     ];
 
-    check collection->insertMany(users);
+    _ = check collection->insertMany(users);
 
     stream<ReadonlyUser, error?> results = check collection->find();
     ReadonlyUser[] actualResults = check from ReadonlyUser user in results
@@ -395,7 +395,7 @@ isolated function testRecordWithXmlFields() returns error? {
         }
     };
 
-    check collection->insertOne(xmlDocument);
+    _ = check collection->insertOne(xmlDocument);
 
     XmlDocument? result = check collection->findOne();
     test:assertTrue(result is XmlDocument, "Expected XmlDocument record");
@@ -428,7 +428,7 @@ isolated function testRecordWithXmlArrayFields() returns error? {
         metadata: metadataXml
     };
 
-    check collection->insertOne(xmlLibrary);
+    _ = check collection->insertOne(xmlLibrary);
 
     XmlLibrary? result = check collection->findOne();
     test:assertTrue(result is XmlLibrary, "Expected XmlLibrary record");
@@ -456,7 +456,7 @@ isolated function testRecordWithNumericTypes() returns error? {
         byteValue: 255
     };
 
-    check collection->insertOne(numericData);
+    _ = check collection->insertOne(numericData);
 
     NumericData? result = check collection->findOne();
     test:assertTrue(result is NumericData, "Expected NumericData record");
@@ -471,6 +471,27 @@ isolated function testRecordWithNumericTypes() returns error? {
     check database->drop();
 }
 
+@test:Config {
+    groups: ["record", "numeric", "decimal", "insert", "find"]
+}
+isolated function testRecordWithLargeNumericTypes() returns error? {
+    Database database = check mongoClient->getDatabase("testRecordWithLargeNumericTypesDB");
+    Collection collection = check database->getCollection("LargeNumericData");
+
+    LargeNumericType numericData = {
+        largeInt: 9223372036854775807,
+        largeFloat: 1.7976931348623157E308,
+        largeDecimal: 1234567890.123456789012345678901234d
+    };
+    _ = check collection->insertOne(numericData);
+
+    LargeNumericType? result = check collection->findOne({largeDecimal: 1234567890.123456789012345678901234d});
+    test:assertEquals(result, numericData);
+
+    check collection->drop();
+    check database->drop();
+}
+
 @test:Config {
     groups: ["record", "table", "insert", "find"]
 }
@@ -489,7 +510,7 @@ isolated function testRecordWithTableFields() returns error? {
         dataTable
     };
 
-    check collection->insertOne(tableData);
+    _ = check collection->insertOne(tableData);
 
     TableData? result = check collection->findOne();
     test:assertTrue(result is TableData, "Expected TableData record");
@@ -530,7 +551,7 @@ isolated function testBatchOperationsWithXmlAndNumericFields() returns error? {
         }
     ];
 
-    check collection->insertMany(xmlDocuments);
+    _ = check collection->insertMany(xmlDocuments);
 
     stream<XmlDocument, error?> results = check collection->find();
     XmlDocument[] actualResults = check from XmlDocument doc in results
@@ -563,7 +584,7 @@ isolated function testRecordWithAnyDataFields() returns error? {
         }
     };
 
-    check collection->insertOne(anyData);
+    _ = check collection->insertOne(anyData);
     record {|anydata...;|}? result = check collection->findOne();
     test:assertTrue(result is record {|anydata...;|}, "Expected record {|anydata...;|}");
     if result is record {|anydata...;|} {
@@ -608,7 +629,7 @@ isolated function testRecordWithTupleFields() returns error? {
         ]
     };
 
-    check collection->insertOne(tupleData);
+    _ = check collection->insertOne(tupleData);
 
     TupleData? result = check collection->findOne();
     test:assertTrue(result is TupleData, "Expected TupleData record");
@@ -657,7 +678,7 @@ isolated function testRecordWithEnumFields() returns error? {
         }
     ];
 
-    check collection->insertMany(colorData);
+    _ = check collection->insertMany(colorData);
 
     stream<ColorData, error?> results = check collection->find();
     ColorData[] actualResults = check from ColorData data in results
@@ -689,7 +710,7 @@ public function testComplexUnionTypes() returns error? {
         {id: "5", value: ()}
     ];
 
-    check collection->insertMany(unionDocs);
+    _ = check collection->insertMany(unionDocs);
 
     // Query and verify type handling
     stream<record {|string id; ComplexUnion? value;|}, error?> results =
@@ -751,7 +772,7 @@ public function testNestedOptionalFields() returns error? {
         }
     ];
 
-    check collection->insertMany(optionalDocs);
+    _ = check collection->insertMany(optionalDocs);
 
     stream<NestedOptional, error?> results = check collection->find();
     NestedOptional[] docs = check from NestedOptional doc in results
@@ -793,7 +814,7 @@ public function testHeterogeneousArrays() returns error? {
         ]
     };
 
-    check collection->insertOne(mixedDoc);
+    _ = check collection->insertOne(mixedDoc);
 
     MixedArray? result = check collection->findOne();
     test:assertTrue(result is MixedArray, "Should retrieve MixedArray");
@@ -840,7 +861,7 @@ public function testCircularReferenceHandling() returns error? {
         ]
     };
 
-    check collection->insertOne(parentDoc);
+    _ = check collection->insertOne(parentDoc);
 
     CircularReference? result = check collection->findOne();
     test:assertTrue(result is CircularReference, "Should handle complex nested structure");
@@ -869,7 +890,7 @@ public function testSchemaEvolution() returns error? {
         version: 1,
         data: "simple_string"
     };
-    check collection->insertOne(oldSchemaDoc);
+    _ = check collection->insertOne(oldSchemaDoc);
 
     map<json> newSchemaDoc = {
         name: "New Schema",
@@ -883,7 +904,7 @@ public function testSchemaEvolution() returns error? {
         },
         newField: "additional_data"
     };
-    check collection->insertOne(newSchemaDoc);
+    _ = check collection->insertOne(newSchemaDoc);
 
     stream<record {string name; int version; anydata data;}, error?> results = check collection->find();
 
@@ -914,7 +935,7 @@ public function testNullVsMissingFields() returns error? {
         {name: "Empty String", value: "", description: "empty_string"}
     ];
 
-    check collection->insertMany(nullDocs);
+    _ = check collection->insertMany(nullDocs);
 
     stream<record {|string name; anydata value?; string description?;|}, error?> results =
         check collection->find();
@@ -967,7 +988,7 @@ public function testBinaryDataHandling() returns error? {
         largeData: largeBinary
     };
 
-    check collection->insertOne(binaryDoc);
+    _ = check collection->insertOne(binaryDoc);
 
     stream<record {|string name; byte[] smallData; byte[] largeData;|}, error?> results =
         check collection->find();
@@ -991,3 +1012,36 @@ public function testBinaryDataHandling() returns error? {
     check collection->drop();
     check database->drop();
 }
+
+@test:Config {
+    groups: ["type_system", "extended_json"]
+}
+public function testExtendedJsonTypeHandling() returns error? {
+    Database database = check mongoClient->getDatabase("extendedJsonTest");
+    Collection collection = check database->getCollection("extendedJsonDocs");
+
+    map<json> extendedDoc = {
+        name: "Extended JSON Document",
+        createdAt: {"$date": "2024-01-15T10:30:00Z"},
+        pattern: {"$regularExpression": {pattern: "^abc", options: "i"}}
+    };
+    _ = check collection->insertOne(extendedDoc);
+
+    record {|map<string> _id; string name; map<json> createdAt; map<json> pattern;|}? result =
+        check collection->findOne();
+    if result is () {
+        test:assertFail("No results returned");
+    }
+    test:assertEquals(result.name, "Extended JSON Document");
+    test:assertEquals(result.createdAt, {"$date": "2024-01-15T10:30:00Z"});
+    test:assertEquals(result.pattern, {"$regularExpression": {pattern: "^abc", options: "i"}});
+    test:assertTrue(result._id.hasKey("$oid"));
+
+    stream<record {|string name; map<json> createdAt;|}, error?> results = check collection->find();
+    record {|string name; map<json> createdAt;|}[] docs = check from var doc in results
+        select doc;
+    test:assertEquals(docs, [{name: "Extended JSON Document", createdAt: {"$date": "2024-01-15T10:30:00Z"}}]);
+
+    check collection->drop();
+    check database->drop();
+}
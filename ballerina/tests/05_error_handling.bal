@@ -29,7 +29,7 @@ public function testStreamResourceLeakPrevention() returns error? {
     foreach int i in 0 ... 99 {
         movies.push({name: "Movie" + i.toString(), year: 2020 + (i % 5), rating: (i % 10) + 1});
     }
-    check collection->insertMany(movies);
+    _ = check collection->insertMany(movies);
 
     // Test multiple streams without proper closing (simulate resource leak scenario)
     foreach int i in 0 ... 9 {
@@ -56,7 +56,7 @@ public function testInvalidRegexQuery() returns error? {
     Database database = check mongoClient->getDatabase("invalidRegexTest");
     Collection collection = check database->getCollection("regexDocs");
 
-    check collection->insertOne({"name": "Test Document", "content": "Sample content"});
+    _ = check collection->insertOne({"name": "Test Document", "content": "Sample content"});
 
     // Test invalid regex patterns
     map<json>[] invalidRegexQueries = [
@@ -92,7 +92,7 @@ public function testLargeResultSetHandling() returns error? {
             padding: check getRandomString(100)
         });
     }
-    check collection->insertMany(largeDocs);
+    _ = check collection->insertMany(largeDocs);
 
     // Test streaming large result set
     stream<record {|int id; string data; string padding;|}, error?> results = check collection->find();
@@ -134,7 +134,7 @@ public function testInvalidDocumentStructures() returns error? {
     ];
 
     // All of these should be valid MongoDB documents
-    check collection->insertMany(problematicDocs);
+    _ = check collection->insertMany(problematicDocs);
 
     int count = check collection->countDocuments();
     test:assertEquals(count, problematicDocs.length());
@@ -168,7 +168,7 @@ public function testAggregationMemoryLimits() returns error? {
             tags: ["tag" + (i % 5).toString(), "tag" + (i % 7).toString()]
         });
     }
-    check collection->insertMany(aggDocs);
+    _ = check collection->insertMany(aggDocs);
 
     // Test aggregation that might consume significant memory
     map<json>[] memoryIntensivePipeline = [
@@ -227,7 +227,7 @@ public function testConcurrentErrorScenarios() returns error? {
     check collection->createIndex({uniqueField: 1}, {unique: true});
 
     // Insert initial document
-    check collection->insertOne({"uniqueField": "shared_value", "data": "initial"});
+    _ = check collection->insertOne({"uniqueField": "shared_value", "data": "initial"});
 
     // Concurrent operations that will cause conflicts
     future<UpdateResult|Error> f1 = start conflictingUpdate(collection, "shared_value", "update1");
@@ -266,9 +266,8 @@ isolated function conflictingUpdate(Collection collection, string uniqueValue, s
 
 isolated function conflictingInsert(Collection collection, string uniqueValue, string data)
     returns error? {
-    var result = collection->insertOne({"uniqueField": uniqueValue, "data": data});
     // This will likely fail due to unique constraint, which is expected
-    return result;
+    _ = check collection->insertOne({"uniqueField": uniqueValue, "data": data});
 }
 
 @test:Config {
@@ -286,7 +285,7 @@ public function testTypeMismatchInQueries() returns error? {
         {id: "4", value: true}, // boolean
         {id: "5", value: [1, 2, 3]} // array
     ];
-    check collection->insertMany(mixedTypeDocs);
+    _ = check collection->insertMany(mixedTypeDocs);
 
     // Query with type-specific operations that might cause issues
     map<json>[] potentiallyProblematicQueries = [
@@ -94,3 +94,7 @@ isolated function createAndDropDatabase(string dbName) returns error? {
 isolated function updateCounter(Collection collection) returns UpdateResult|Error {
     return collection->updateOne({name: "Concurrent"}, {inc: {counter: 1}});
 }
+
+isolated function findMovieById(Collection collection, string id) returns Movie|Error? {
+    return collection->findOne({_id: id});
+}
@@ -152,7 +152,7 @@ public type ConnectionProperties record {|
     # Whether to retry writing failures
     @display {label: "Retry Writes"}
     boolean retryWrites?;
-    # The timeout for the socket
+    # The timeout for reading from a socket in milliseconds. 0 means no timeout
     @display {label: "Socket Timeout"}
     int socketTimeout?;
     # The timeout for the connection
@@ -177,6 +177,92 @@ public type ConnectionProperties record {|
     # to determine the current state of each server in the cluster.
     @display {label: "Heartbeat Frequency"}
     int heartbeatFrequency?;
+    # The maximum number of connections a pool may be establishing concurrently
+    @display {label: "Maximum Connecting"}
+    int maxConnecting?;
+    # The maximum time in milliseconds to wait for a connection to become available in the pool
+    @display {label: "Maximum Wait Time"}
+    int maxWaitTime?;
+    # The time period between runs of the maintenance job of the pool in milliseconds, which closes the idle
+    # connections and maintains the minimum pool size
+    @display {label: "Maintenance Frequency"}
+    int maintenanceFrequency?;
+    # The maximum time in milliseconds to wait for a suitable server to be available for an operation
+    @display {label: "Server Selection Timeout"}
+    int serverSelectionTimeout?;
+    # The protocol used to monitor the servers
+    @display {label: "Server Monitoring Mode"}
+    ServerMonitoringMode serverMonitoringMode?;
+    # The size of the receive buffer of a socket in bytes. The operating system default is used if not set
+    @display {label: "Receive Buffer Size"}
+    int receiveBufferSize?;
+    # The size of the send buffer of a socket in bytes. The operating system default is used if not set
+    @display {label: "Send Buffer Size"}
+    int sendBufferSize?;
+    # The compression of the messages exchanged with the server. The messages are not compressed if not set
+    @display {label: "Compression"}
+    CompressionConfig compression?;
+|};
+
+# Protocol used to monitor the servers.
+public enum ServerMonitoringMode {
+    # The server streams the changes of its state, which detects the changes faster
+    STREAM,
+    # The state of the server is periodically polled, which is preferred in environments such as FaaS where the
+    # streamed responses may be delayed
+    POLL,
+    # The streaming protocol is used unless running in a FaaS environment
+    AUTO
+};
+
+# Compressor of the messages exchanged with the server. The zstd and snappy compressors require the `zstd-jni` and
+# `snappy-java` libraries respectively, which are not bundled with the package as they load native libraries.
+public enum Compressor {
+    ZSTD = "zstd",
+    SNAPPY = "snappy",
+    ZLIB = "zlib"
+};
+
+# Represents the compression of the messages exchanged with the server.
+@display {label: "Compression Config"}
+public type CompressionConfig record {|
+    # The compressors to offer to the server, in the order of preference. The first compressor supported by the
+    # server is used
+    @display {label: "Compressors"}
+    Compressor[] compressors = [ZLIB];
+    # The compression level of zlib, from 0 (no compression) to 9 (best compression). The default level of zlib is
+    # used if -1. The levels of zstd and snappy are not configurable
+    @display {label: "Zlib Level"}
+    int zlibLevel = -1;
+|};
+
+# Represents the network statistics of the server. The statistics include the messages of all the clients of the
+# server since it was started.
+public type NetworkStats record {|
+    # The number of bytes received by the server, after decompressing the messages
+    int bytesIn;
+    # The number of bytes sent by the server, before compressing the messages
+    int bytesOut;
+    # The number of bytes received by the server over the network
+    int physicalBytesIn;
+    # The number of bytes sent by the server over the network
+    int physicalBytesOut;
+    # The number of requests received by the server
+    int numRequests;
+    # The byte counts of the compressors of the server by the compressor name
+    map<CompressorStats> compression;
+|};
+
+# Represents the byte counts of a message compressor of the server.
+public type CompressorStats record {|
+    # The number of bytes of the messages sent by the server, before compressing them
+    int sentUncompressedBytes;
+    # The number of bytes of the messages sent by the server, after compressing them
+    int sentCompressedBytes;
+    # The number of bytes of the messages received by the server, before decompressing them
+    int receivedCompressedBytes;
+    # The number of bytes of the messages received by the server, after decompressing them
+    int receivedUncompressedBytes;
 |};
 
 # Represents the configurations related to facilitating secure connection.
@@ -217,8 +303,130 @@ public enum ReadConcern {
     SNAPSHOT = "snapshot"
 };
 
+# Read preference mode.
+public enum ReadPreferenceMode {
+    # Read from the primary only
+    PRIMARY = "primary",
+    # Read from the primary if available, otherwise from a secondary
+    PRIMARY_PREFERRED = "primaryPreferred",
+    # Read from a secondary only
+    SECONDARY = "secondary",
+    # Read from a secondary if available, otherwise from the primary
+    SECONDARY_PREFERRED = "secondaryPreferred",
+    # Read from the member with the lowest network latency
+    NEAREST = "nearest"
+};
+
+# Represents a read preference with the tag sets and the maximum staleness of the members to read from.
+public type ReadPreferenceConfig record {|
+    # The read preference mode
+    @display {label: "Mode"}
+    ReadPreferenceMode mode;
+    # The tag sets to select the members, in the order of preference. A member matches a tag set if it has all the
+    # tags of the set. Not allowed with the `PRIMARY` mode
+    @display {label: "Tag Sets"}
+    map<string>[] tagSets = [];
+    # The maximum replication lag of a secondary to read from in seconds. This should be at least 90 seconds. Not
+    # allowed with the `PRIMARY` mode
+    @display {label: "Maximum Staleness"}
+    int maxStalenessSeconds?;
+|};
+
+# Represents the read settings overriding the settings of the client for a database, a collection or an operation.
+public type ReadOptions record {|
+    # The read preference as a mode name (i.e. `secondaryPreferred`) or with tag sets and maximum staleness
+    @display {label: "Read Preference"}
+    string|ReadPreferenceConfig readPreference?;
+    # The read concern level
+    @display {label: "Read Concern"}
+    ReadConcern readConcern?;
+|};
+
+# Represents the write settings overriding the settings of the client for a database, a collection or an operation.
+public type WriteOptions record {|
+    # The write concern as the number of members to acknowledge the write (i.e. `0` for unacknowledged writes), or
+    # as `majority` or a tag set name
+    @display {label: "Write Concern"}
+    string|int writeConcern?;
+|};
+
+# Represents the read and write settings of a database or a collection, which override the settings of the client.
+public type ReadWriteOptions record {|
+    *ReadOptions;
+    *WriteOptions;
+|};
+
+# Represents the settings of a collection, which override the settings of the database.
+public type CollectionOptions record {|
+    *ReadWriteOptions;
+    # The cache of the results of the `find`, `findOne` and `countDocuments` operations, or nil to not cache the
+    # results
+    @display {label: "Result Cache"}
+    ResultCacheConfig resultCache?;
+    # The coalescing of the concurrent `findOne` lookups by the `_id`, or nil to not coalesce the lookups
+    @display {label: "Lookup Coalescing"}
+    LookupCoalescingConfig lookupCoalescing?;
+|};
+
+# Represents the configurations of the cache of the query results of a collection. The results are invalidated when
+# the collection is written through any collection of the same client, and expire after the TTL to pick up the
+# writes of the other clients.
+public type ResultCacheConfig record {|
+    # The maximum number of cached results
+    @display {label: "Maximum Entries"}
+    int maxEntries = 1024;
+    # The maximum size of the cached documents in bytes
+    @display {label: "Maximum Bytes"}
+    int maxBytes = 16777216;
+    # The time to keep a result in seconds
+    @display {label: "TTL"}
+    decimal ttl = 60;
+|};
+
+# Represents the configurations of the coalescing of the concurrent `findOne` lookups of a collection by the `_id`
+# (i.e. `findOne({_id: value})`). The lookups arriving within the window are retrieved with a single `$in` query, and
+# the concurrent lookups of the same `_id` share the same result.
+public type LookupCoalescingConfig record {|
+    # The time to wait for more lookups after the first lookup of a batch in seconds
+    @display {label: "Window"}
+    decimal window = 0.002;
+    # The maximum number of `_id`s retrieved with a single query. A full batch is retrieved without waiting for the
+    # window to elapse
+    @display {label: "Maximum Batch Size"}
+    int maxBatchSize = 100;
+|};
+
+# Represents the statistics of the lookup coalescing of a collection.
+public type LookupCoalescingStats record {|
+    # The number of coalesced lookups
+    int lookups;
+    # The number of queries sent to retrieve the batches of lookups
+    int queries;
+    # The number of lookups which shared the result of another lookup of the same `_id`
+    int sharedLookups;
+|};
+
+# Represents the statistics of the result cache of a collection.
+public type ResultCacheStats record {|
+    # The number of results returned from the cache
+    int hits;
+    # The number of results which were not in the cache
+    int misses;
+    # The number of results evicted to keep the cache within its limits
+    int evictions;
+    # The number of results removed after their TTL
+    int expirations;
+    # The number of results removed due to the writes to the collection
+    int invalidations;
+    # The number of cached results
+    int entries;
+    # The approximate size of the cached results in bytes
+    int bytes;
+|};
+
 # Represents the options for the `Collection.insertOne()` operation.
 public type InsertOneOptions record {|
+    *WriteOptions;
     # The comment to send with the operation
     @display {label: "Comment"}
     string comment?;
@@ -229,6 +437,7 @@ public type InsertOneOptions record {|
 
 # Represents the options for the `Collection.insertMany()` operation.
 public type InsertManyOptions record {|
+    *WriteOptions;
     # The comment to send with the operation
     @display {label: "Comment"}
     string comment?;
@@ -240,20 +449,141 @@ public type InsertManyOptions record {|
     boolean ordered = true;
 |};
 
+# The maximum size of a message that can be sent to the MongoDB server in bytes.
+public const int MAX_MESSAGE_SIZE_BYTES = 48000000;
+
+# Represents the options for the `Collection.insertStream()` operation.
+public type InsertStreamOptions record {|
+    *InsertManyOptions;
+    # The maximum number of documents to insert in a single batch
+    @display {label: "Batch Size"}
+    int batchSize = 1000;
+    # The maximum total size of the documents in a single batch in bytes. This is capped at
+    # `MAX_MESSAGE_SIZE_BYTES`
+    @display {label: "Maximum Batch Size in Bytes"}
+    int maxBatchBytes = 16777216;
+    # The function to call after each batch is inserted to report the progress
+    @display {label: "Batch Completion Handler"}
+    isolated function (InsertBatchResult result) onBatchCompletion?;
+|};
+
+# Represents the language-specific rules for comparing strings, such as the rules for lettercase and accent marks.
+public type Collation record {|
+    # The ICU locale (i.e. `en`, `fr_CA`), or `simple` for binary comparison
+    string locale;
+    # Whether to include the case comparison at the strength level 1 or 2
+    boolean caseLevel?;
+    # The sort order of the case differences at the tertiary level
+    "upper"|"lower"|"off" caseFirst?;
+    # The level of comparison, from 1 (base characters only) to 5 (identical)
+    int strength?;
+    # Whether to compare the numeric strings as numbers instead of as strings
+    boolean numericOrdering?;
+    # Whether the whitespace and the punctuation are considered as base characters
+    "non-ignorable"|"shifted" alternate?;
+    # The characters which are ignored when the `alternate` is `shifted`
+    "punct"|"space" maxVariable?;
+    # Whether to check if the text requires normalization and to perform the normalization
+    boolean normalization?;
+    # Whether the strings with diacritics are sorted from the back of the string
+    boolean backwards?;
+|};
+
 # Represents the options for the `Collection.find()` operation.
 public type FindOptions record {|
+    *ReadOptions;
     # The sort options for the query
     map<json> sort = {};
     # The maximum limit of the number of documents to retrive. -1 means no limit
     int 'limit?;
-    # The batch size of the query
+    # The number of documents to return in each batch of the cursor. This sets the size of the initial and the
+    # subsequent batches fetched from the server
     int batchSize?;
     # The number of documents to skip
     int skip?;
+    # Whether to prevent the server from timing out idle cursors after 10 minutes of inactivity
+    boolean noCursorTimeout?;
+    # Whether to allow the server to write temporary data to disk when executing the query (i.e. large sorts)
+    boolean allowDiskUse?;
+    # The maximum time for the server to wait for new documents to satisfy a tailable cursor query in milliseconds
+    int maxAwaitTimeMS?;
+    # The type of the cursor
+    CursorType cursorType?;
+    # Whether to get partial results from a sharded cluster if one or more shards are unreachable
+    boolean partial?;
+    # The number of documents to fetch and convert ahead of the consumer in the background. This overlaps fetching
+    # the next batches from the server with the processing of the stream. Prefetching is disabled if not set
+    int prefetchSize?;
+    # The index to use, as the index specification (i.e. `{year: 1}`), instead of the index selected by the planner
+    map<json> hint?;
+    # The name of the index to use instead of the index selected by the planner
+    string hintString?;
+    # The maximum execution time on the server in milliseconds
+    int maxTimeMS?;
+    # The collation to use when comparing strings
+    Collation collation?;
+    # The comment to send with the query, which appears in the profiler output and the server logs
+    string comment?;
+    # The inclusive lower bound of the index used by the query. Requires the `hint`
+    map<json> min?;
+    # The exclusive upper bound of the index used by the query. Requires the `hint`
+    map<json> max?;
+    # Whether to return only the index keys of the documents
+    boolean returnKey?;
+    # Whether to add the record identifier of each document as the `$recordId` field
+    boolean showRecordId?;
+|};
+
+# Represents the options for the `Collection.aggregate()` operation.
+public type AggregateOptions record {|
+    *ReadOptions;
+    # The number of documents to return in each batch of the cursor
+    int batchSize?;
+    # Whether to allow the server to write temporary data to disk when executing the pipeline
+    boolean allowDiskUse?;
+    # The maximum time for the server to wait for new documents to satisfy a tailable cursor query in milliseconds
+    int maxAwaitTimeMS?;
+    # The number of documents to fetch and convert ahead of the consumer in the background. Prefetching is disabled
+    # if not set
+    int prefetchSize?;
+    # The index to use, as the index specification (i.e. `{year: 1}`), instead of the index selected by the planner
+    map<json> hint?;
+    # The name of the index to use instead of the index selected by the planner
+    string hintString?;
+    # The maximum execution time on the server in milliseconds
+    int maxTimeMS?;
+    # The collation to use when comparing strings
+    Collation collation?;
+    # The comment to send with the pipeline, which appears in the profiler output and the server logs
+    string comment?;
+|};
+
+# Represents the options for the `Collection.distinct()` operation.
+public type DistinctOptions record {|
+    *ReadOptions;
+    # The number of documents to return in each batch of the cursor
+    int batchSize?;
+    # The maximum execution time on the server in milliseconds
+    int maxTimeMS?;
+    # The collation to use when comparing strings
+    Collation collation?;
+    # The comment to send with the operation
+    string comment?;
 |};
 
+# Type of the cursor returned by the `Collection.find()` operation.
+public enum CursorType {
+    # A cursor which is closed when the last document is retrieved
+    NON_TAILABLE,
+    # A cursor which remains open after the last document is retrieved, to retrieve documents inserted later
+    TAILABLE,
+    # A tailable cursor which waits on the server for new documents before returning an empty batch
+    TAILABLE_AWAIT
+};
+
 # Represents the options for the `Collection.countDocuments()` operation.
 public type CountOptions record {|
+    *ReadOptions;
     # The maximum limit of the number of documents to count
     int 'limit?;
     # The number of documents to skip
@@ -262,6 +592,10 @@ public type CountOptions record {|
     int maxTimeMS?;
     # The hint to use
     string hint?;
+    # The collation to use when comparing strings
+    Collation collation?;
+    # The comment to send with the operation
+    string comment?;
 |};
 
 # Represents the options for the `Collection.createIndex()` operation.
@@ -318,6 +652,7 @@ public type CreateIndexOptions record {|
 
 # Represents the options for the `Collection.updateOne()` operation.
 public type UpdateOptions record {|
+    *WriteOptions;
     # Whether to upsert if the document does not exist
     @display {label: "Upsert"}
     boolean upsert = false;
@@ -335,8 +670,111 @@ public type UpdateOptions record {|
     string hintString?;
 |};
 
-# Represents the options for the `Collection.deleteOne()` operation.
+# Represents the options for the `Collection.deleteOne()` and `Collection.deleteMany()` operations.
 public type DeleteOptions record {|
+    *WriteOptions;
+    # The comment to send with the operation
+    @display {label: "Comment"}
+    string comment?;
+    # The hint to use
+    @display {label: "Hint"}
+    map<json> hint?;
+    # The hint string to use
+    @display {label: "Hint String"}
+    string hintString?;
+    # The collation to use when comparing strings
+    @display {label: "Collation"}
+    Collation collation?;
+|};
+
+# Represents which version of the document is returned by the `Collection.findOneAndUpdate()` and
+# `Collection.findOneAndReplace()` operations.
+public enum ReturnDocument {
+    # The document before the update or the replacement
+    BEFORE,
+    # The document after the update or the replacement
+    AFTER
+};
+
+# Represents the options for the `Collection.findOneAndUpdate()` operation.
+public type FindOneAndUpdateOptions record {|
+    *WriteOptions;
+    # Whether to return the document before or after the update
+    @display {label: "Return Document"}
+    ReturnDocument returnDocument = BEFORE;
+    # The sort criteria to select the document when multiple documents match the filter
+    @display {label: "Sort"}
+    map<json> sort?;
+    # The projection of the returned document. If not provided, the projection will be generated based on the
+    # target type
+    @display {label: "Projection"}
+    map<json> projection?;
+    # Whether to insert a document if no document matches the filter
+    @display {label: "Upsert"}
+    boolean upsert = false;
+    # Whether to bypass the document validation
+    @display {label: "Bypass Document Validation"}
+    boolean bypassDocumentValidation = false;
+    # The maximum execution time on the server in milliseconds
+    @display {label: "Max Time (ms)"}
+    int maxTimeMS?;
+    # The comment to send with the operation
+    @display {label: "Comment"}
+    string comment?;
+    # The hint to use
+    @display {label: "Hint"}
+    map<json> hint?;
+    # The hint string to use
+    @display {label: "Hint String"}
+    string hintString?;
+|};
+
+# Represents the options for the `Collection.findOneAndReplace()` operation.
+public type FindOneAndReplaceOptions record {|
+    *WriteOptions;
+    # Whether to return the document before or after the replacement
+    @display {label: "Return Document"}
+    ReturnDocument returnDocument = BEFORE;
+    # The sort criteria to select the document when multiple documents match the filter
+    @display {label: "Sort"}
+    map<json> sort?;
+    # The projection of the returned document. If not provided, the projection will be generated based on the
+    # target type
+    @display {label: "Projection"}
+    map<json> projection?;
+    # Whether to insert the replacement if no document matches the filter
+    @display {label: "Upsert"}
+    boolean upsert = false;
+    # Whether to bypass the document validation
+    @display {label: "Bypass Document Validation"}
+    boolean bypassDocumentValidation = false;
+    # The maximum execution time on the server in milliseconds
+    @display {label: "Max Time (ms)"}
+    int maxTimeMS?;
+    # The comment to send with the operation
+    @display {label: "Comment"}
+    string comment?;
+    # The hint to use
+    @display {label: "Hint"}
+    map<json> hint?;
+    # The hint string to use
+    @display {label: "Hint String"}
+    string hintString?;
+|};
+
+# Represents the options for the `Collection.findOneAndDelete()` operation.
+public type FindOneAndDeleteOptions record {|
+    *WriteOptions;
+    # The sort criteria to select the document when multiple documents match the filter
+    @display {label: "Sort"}
+    map<json> sort?;
+    # The projection of the returned document. If not provided, the projection will be generated based on the
+    # target type
+    @display {label: "Projection"}
+    map<json> projection?;
+    # The maximum execution time on the server in milliseconds
+    @display {label: "Max Time (ms)"}
+    int maxTimeMS?;
     # The comment to send with the operation
     @display {label: "Comment"}
     string comment?;
@@ -388,6 +826,18 @@ public type Update record {|
     map<json>...;
 |};
 
+# Represents the parts of a prepared query.
+public type PreparedQueryConfig record {|
+    # The query filter
+    map<json> filter = {};
+    # The update operations, used by the update operations
+    Update update?;
+    # The sort order, used by the find operations. The sort of the find options is used if not provided
+    map<json> sort?;
+    # The projection, used by the find operations. The projection is derived from the target type if not provided
+    map<json> projection?;
+|};
+
 # Repsents the return type of the Update operation.
 public type UpdateResult record {|
     # The number of documents matched by the update operation
@@ -396,9 +846,34 @@ public type UpdateResult record {|
     # The number of documents modified by the update operation
     @display {label: "Modified Count"}
     int modifiedCount;
-    # The identifier of the inserted document if the upsert option is used
+    # The `_id` of the inserted document if the upsert option is used. An object ID is represented as its hex string
     @display {label: "Upserted Id"}
-    string upsertedId?;
+    json upsertedId?;
+    # Whether the update operation was acknowledged. The counts are `0` for the unacknowledged updates
+    @display {label: "Acknowledged"}
+    boolean acknowledged;
+|};
+
+# Represents the return type of the `Collection.insertOne()` operation.
+public type InsertOneResult record {|
+    # The `_id` of the inserted document. If the document does not have an `_id`, it is an object ID generated by the
+    # client before sending the document (i.e. `{"$oid": "..."}`)
+    @display {label: "Inserted Id"}
+    json insertedId;
+    # Whether the insert operation was acknowledged
+    @display {label: "Acknowledged"}
+    boolean acknowledged;
+|};
+
+# Represents the return type of the `Collection.insertMany()` operation.
+public type InsertManyResult record {|
+    # The `_id`s of the inserted documents in the order of the documents. The object IDs are generated by the client
+    # for the documents without an `_id`
+    @display {label: "Inserted Ids"}
+    json[] insertedIds;
+    # Whether the insert operation was acknowledged
+    @display {label: "Acknowledged"}
+    boolean acknowledged;
 |};
 
 # Represents the return type of the Delete operation.
@@ -406,7 +881,302 @@ public type DeleteResult record {|
     # The number of documents deleted by the delete operation
     @display {label: "Deleted Count"}
     int deletedCount;
-    # Whether the delete operation was acknowledged
+    # Whether the delete operation was acknowledged. The count is `0` for the unacknowledged deletes
     @display {label: "Acknowledged"}
     boolean acknowledged;
 |};
+
+# Represents the options for the `Collection.bulkWrite()` operation.
+public type BulkWriteOptions record {|
+    *WriteOptions;
+    # Whether to execute the write operations in the order provided. When ordered, the operation stops at the first
+    # failed write. Otherwise, the remaining writes are attempted regardless of the failures
+    @display {label: "Ordered"}
+    boolean ordered = true;
+    # Whether to bypass the document validation
+    @display {label: "Bypass Document Validation"}
+    boolean bypassDocumentValidation = false;
+    # The comment to send with the operation
+    @display {label: "Comment"}
+    string comment?;
+|};
+
+# The insert one operation of a bulk write.
+public const INSERT_ONE = "INSERT_ONE";
+
+# The update one operation of a bulk write.
+public const UPDATE_ONE = "UPDATE_ONE";
+
+# The update many operation of a bulk write.
+public const UPDATE_MANY = "UPDATE_MANY";
+
+# The replace one operation of a bulk write.
+public const REPLACE_ONE = "REPLACE_ONE";
+
+# The delete one operation of a bulk write.
+public const DELETE_ONE = "DELETE_ONE";
+
+# The delete many operation of a bulk write.
+public const DELETE_MANY = "DELETE_MANY";
+
+# Represents an insert of a single document in a bulk write.
+public type InsertOneModel record {|
+    # The write operation
+    readonly INSERT_ONE operation = INSERT_ONE;
+    # The document to insert
+    record {|anydata...;|} document;
+|};
+
+# Represents an update of a single document in a bulk write.
+public type UpdateOneModel record {|
+    # The write operation
+    readonly UPDATE_ONE operation = UPDATE_ONE;
+    # The query filter to select the document to update
+    map<json> filter;
+    # The update operations to apply to the document
+    Update update;
+    # Whether to upsert if the document does not exist
+    boolean upsert = false;
+    # The hint to use
+    map<json> hint?;
+    # The hint string to use
+    string hintString?;
+|};
+
+# Represents an update of multiple documents in a bulk write.
+public type UpdateManyModel record {|
+    # The write operation
+    readonly UPDATE_MANY operation = UPDATE_MANY;
+    # The query filter to select the documents to update
+    map<json> filter;
+    # The update operations to apply to the documents
+    Update update;
+    # Whether to upsert if no document matches the filter
+    boolean upsert = false;
+    # The hint to use
+    map<json> hint?;
+    # The hint string to use
+    string hintString?;
+|};
+
+# Represents a replacement of a single document in a bulk write.
+public type ReplaceOneModel record {|
+    # The write operation
+    readonly REPLACE_ONE operation = REPLACE_ONE;
+    # The query filter to select the document to replace
+    map<json> filter;
+    # The replacement document
+    record {|anydata...;|} replacement;
+    # Whether to upsert if the document does not exist
+    boolean upsert = false;
+    # The hint to use
+    map<json> hint?;
+    # The hint string to use
+    string hintString?;
+|};
+
+# Represents a deletion of a single document in a bulk write.
+public type DeleteOneModel record {|
+    # The write operation
+    readonly DELETE_ONE operation = DELETE_ONE;
+    # The query filter to select the document to delete
+    map<json> filter;
+    # The hint to use
+    map<json> hint?;
+    # The hint string to use
+    string hintString?;
+|};
+
+# Represents a deletion of multiple documents in a bulk write.
+public type DeleteManyModel record {|
+    # The write operation
+    readonly DELETE_MANY operation = DELETE_MANY;
+    # The query filter to select the documents to delete
+    map<json> filter;
+    # The hint to use
+    map<json> hint?;
+    # The hint string to use
+    string hintString?;
+|};
+
+# Represents a single write operation of the `Collection.bulkWrite()` operation.
+public type WriteModel InsertOneModel|UpdateOneModel|UpdateManyModel|ReplaceOneModel|DeleteOneModel|DeleteManyModel;
+
+# Represents a document upserted by a bulk write operation.
+public type BulkWriteUpsert record {|
+    # The index of the write model in the bulk write request
+    @display {label: "Index"}
+    int index;
+    # The identifier of the upserted document
+    @display {label: "Id"}
+    json id;
+|};
+
+# Represents a failed write of a bulk write operation.
+public type BulkWriteError record {|
+    # The index of the write model in the bulk write request
+    @display {label: "Index"}
+    int index;
+    # The error code returned by the server
+    @display {label: "Code"}
+    int code;
+    # The error message returned by the server
+    @display {label: "Message"}
+    string message;
+|};
+
+# Represents the return type of the bulk write operation.
+public type BulkWriteResult record {|
+    # The number of documents inserted by the bulk write operation
+    @display {label: "Inserted Count"}
+    int insertedCount;
+    # The number of documents matched by the update and replace operations
+    @display {label: "Matched Count"}
+    int matchedCount;
+    # The number of documents modified by the update and replace operations
+    @display {label: "Modified Count"}
+    int modifiedCount;
+    # The number of documents deleted by the delete operations
+    @display {label: "Deleted Count"}
+    int deletedCount;
+    # The documents upserted by the update and replace operations
+    @display {label: "Upserts"}
+    BulkWriteUpsert[] upserts;
+    # The write operations which failed. Only the first failure is reported when the operation is ordered
+    @display {label: "Write Errors"}
+    BulkWriteError[] writeErrors;
+    # The error if the operations were applied but the write concern could not be satisfied
+    @display {label: "Write Concern Error"}
+    DatabaseError writeConcernError?;
+    # Whether the bulk write operation was acknowledged
+    @display {label: "Acknowledged"}
+    boolean acknowledged;
+|};
+
+# Represents the result of inserting a single batch of the `Collection.insertStream()` operation.
+public type InsertBatchResult record {|
+    # The index of the batch, starting from zero
+    @display {label: "Batch Index"}
+    int batchIndex;
+    # The number of documents in the batch
+    @display {label: "Document Count"}
+    int documentCount;
+    # The number of documents inserted from the batch
+    @display {label: "Inserted Count"}
+    int insertedCount;
+    # The documents of the batch which failed to insert. The index refers to the position within the batch
+    @display {label: "Write Errors"}
+    BulkWriteError[] writeErrors;
+    # The error if the documents were inserted but the write concern of the batch could not be satisfied
+    @display {label: "Write Concern Error"}
+    DatabaseError writeConcernError?;
+|};
+
+# Represents the return type of the `Collection.insertStream()` operation.
+public type InsertStreamResult record {|
+    # The total number of documents inserted
+    @display {label: "Inserted Count"}
+    int insertedCount;
+    # The number of batches sent to the server
+    @display {label: "Batch Count"}
+    int batchCount;
+    # The batches with at least one failed document
+    @display {label: "Failed Batches"}
+    InsertBatchResult[] failedBatches;
+|};
+
+# Represents the options for the `watch()` operation of the client, database and collection.
+public type ChangeStreamOptions record {|
+    # The aggregation stages to apply to the change events on the server, i.e. `$match` and `$project`
+    @display {label: "Pipeline"}
+    map<json>[] pipeline = [];
+    # Whether to include the current version of the document in the update events
+    @display {label: "Full Document"}
+    FullDocument fullDocument = DEFAULT;
+    # The resume token of the event to resume the change stream after
+    @display {label: "Resume After"}
+    map<json> resumeAfter?;
+    # The resume token of the event to start a new change stream after. Unlike `resumeAfter`, this can be used to
+    # resume the change stream after an invalidate event
+    @display {label: "Start After"}
+    map<json> startAfter?;
+    # The number of events to return in each batch of the cursor
+    @display {label: "Batch Size"}
+    int batchSize?;
+    # The maximum time for the server to wait for new events before returning an empty batch in milliseconds
+    @display {label: "Maximum Await Time in Milliseconds"}
+    int maxAwaitTimeMS?;
+|};
+
+# Whether the change events include the current version of the modified document.
+public enum FullDocument {
+    # Only the insert and replace events include the full document
+    DEFAULT = "default",
+    # The update events include the most current majority-committed version of the document as well
+    UPDATE_LOOKUP = "updateLookup",
+    # The post-image of the document is included if available
+    WHEN_AVAILABLE = "whenAvailable",
+    # The post-image of the document is included and an error is returned if it is not available
+    REQUIRED = "required"
+};
+
+# Represents a change event of a change stream. Define a subtype of this record with the type of the `fullDocument`
+# field to retrieve the modified documents as a specific type.
+public type ChangeStreamEvent record {
+    # The resume token of the event, which can be used to resume the change stream after this event
+    map<json> _id;
+    # The type of the operation, i.e. `insert`, `update`, `replace` or `delete`
+    string operationType;
+    # The namespace of the modified collection
+    ChangeStreamNamespace ns?;
+    # The `_id` of the modified document
+    map<json> documentKey?;
+    # The current version of the modified document, depending on the `fullDocument` option
+    record {} fullDocument?;
+    # The fields updated or removed by an update operation
+    UpdateDescription updateDescription?;
+    # The time of the operation in the oplog
+    json clusterTime?;
+};
+
+# Represents the namespace of a change event.
+public type ChangeStreamNamespace record {
+    # The name of the database
+    string db;
+    # The name of the collection
+    string coll?;
+};
+
+# Represents the changes made by an update operation of a change event.
+public type UpdateDescription record {
+    # The updated fields and their new values
+    map<json> updatedFields;
+    # The removed fields
+    string[] removedFields;
+};
+
+# Represents the options for the `Client.startSession()` operation.
+public type SessionOptions record {|
+    # Whether the operations of the session are causally consistent with each other
+    @display {label: "Causally Consistent"}
+    boolean causallyConsistent = true;
+    # The options applied to the transactions of the session unless overridden when starting a transaction
+    @display {label: "Default Transaction Options"}
+    TransactionOptions defaultTransactionOptions?;
+|};
+
+# Represents the options for a transaction of a `Session`.
+public type TransactionOptions record {|
+    # The read concern level of the transaction
+    @display {label: "Read Concern"}
+    ReadConcern readConcern?;
+    # The write concern of the transaction
+    @display {label: "Write Concern"}
+    string writeConcern?;
+    # The read preference of the transaction. Transactions only support reading from the primary
+    @display {label: "Read Preference"}
+    string readPreference?;
+    # The maximum time in milliseconds for a single commit of the transaction to run
+    @display {label: "Maximum Commit Time"}
+    int maxCommitTimeMS?;
+|};
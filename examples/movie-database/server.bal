@@ -61,7 +61,7 @@ service on new http:Listener(9091) {
         string id = uuid:createType1AsString();
         Movie movie = {id, ...input};
         mongodb:Collection movies = check self.moviesDb->getCollection("movies");
-        check movies->insertOne(movie);
+        _ = check movies->insertOne(movie);
         return movie;
     }
 
@@ -70,7 +70,7 @@ service on new http:Listener(9092) {
             orders: [],
             ...input
         };
-        check customersCollection->insertOne(customer);
+        _ = check customersCollection->insertOne(customer);
     }
 
     resource function get customers/[string id]() returns Customer|error {
@@ -123,7 +123,7 @@ service on new http:Listener(9092) {
             id,
             ...input
         };
-        check ordersCollection->insertOne('order);
+        _ = check ordersCollection->insertOne('order);
     }
 }
 
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Codec to write Ballerina map values directly to BSON without going through the JSON text representation.
+ * Integers are written as 64-bit integers, floats as doubles and decimals as 128-bit decimals. Maps representing an
+ * extended JSON value (i.e. <code>{"$date": "2024-01-01T00:00:00Z"}</code>) and values without a BSON counterpart
+ * (i.e. <code>xml</code> and <code>table</code>) are written using their JSON representation as before, except the
+ * object IDs, which are written directly.
+ * <p>
+ * The inserted documents without an <code>_id</code> are given an object ID on the client, which is written as the
+ * first field, hence the ID is known without reading the document back and the server does not reorder the fields.
+ *
+ * @since 5.2.5
+ */
+@SuppressWarnings("rawtypes")
+final class BMapCodec implements CollectibleCodec<BMap> {
+
+    static final BMapCodec INSTANCE = new BMapCodec();
+
+    static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(INSTANCE), MongoClientSettings.getDefaultCodecRegistry());
+
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+    private static final String VALUE_KEY = "value";
+    private static final String ID_FIELD = "_id";
+    private static final BString ID = StringUtils.fromString(ID_FIELD);
+    private static final BString OID = StringUtils.fromString("$oid");
+    private static final Set<String> EXTENDED_JSON_KEYS = Set.of("$oid", "$date", "$numberDecimal", "$numberLong",
+            "$numberInt", "$numberDouble", "$binary", "$uuid", "$regularExpression", "$regex", "$timestamp",
+            "$symbol", "$code", "$minKey", "$maxKey", "$undefined", "$dbPointer");
+
+    private BMapCodec() {
+    }
+
+    /**
+     * Wraps the given Ballerina map as a BSON document which is encoded lazily by the driver.
+     *
+     * @param map The Ballerina map value
+     * @return The BSON document wrapping the map
+     */
+    @SuppressWarnings("unchecked")
+    static Bson toBson(BMap<BString, Object> map) {
+        return new BsonDocumentWrapper<BMap>(map, INSTANCE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(BsonWriter writer, BMap map, EncoderContext encoderContext) {
+        writeDocument(writer, (BMap<BString, Object>) map, encoderContext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public BMap decode(BsonReader reader, DecoderContext decoderContext) {
+        return (BMap<BString, Object>) BsonDecoder.INSTANCE.decode(reader, decoderContext);
+    }
+
+    @Override
+    public Class<BMap> getEncoderClass() {
+        return BMap.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public BMap generateIdIfAbsentFromDocument(BMap document) {
+        if (documentHasId(document)) {
+            return document;
+        }
+        // The given value is not modified, as it may be a closed or a read-only record
+        BMap<BString, Object> identifiedDocument = ValueCreator.createMapValue();
+        identifiedDocument.put(ID, BsonDecoder.createObjectId(new ObjectId()));
+        for (Map.Entry<BString, Object> entry : ((BMap<BString, Object>) document).entrySet()) {
+            identifiedDocument.put(entry.getKey(), entry.getValue());
+        }
+        return identifiedDocument;
+    }
+
+    @Override
+    public boolean documentHasId(BMap document) {
+        return document.containsKey(ID);
+    }
+
+    @Override
+    public BsonValue getDocumentId(BMap document) {
+        if (!documentHasId(document)) {
+            throw new IllegalStateException("The document does not contain an _id");
+        }
+        BsonDocument idDocument = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(idDocument);
+        writer.writeStartDocument();
+        writer.writeName(ID_FIELD);
+        writeValue(writer, document.get(ID), EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return idDocument.get(ID_FIELD);
+    }
+
+    private static void writeDocument(BsonWriter writer, BMap<BString, Object> map, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        for (Map.Entry<BString, Object> entry : map.entrySet()) {
+            writer.writeName(entry.getKey().getValue());
+            writeValue(writer, entry.getValue(), encoderContext);
+        }
+        writer.writeEndDocument();
+    }
+
+    private static void writeArray(BsonWriter writer, BArray array, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (int i = 0; i < array.size(); i++) {
+            writeValue(writer, array.get(i), encoderContext);
+        }
+        writer.writeEndArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static void writeValue(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof BString stringValue) {
+            writer.writeString(stringValue.getValue());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Byte) {
+            writer.writeInt64(((Number) value).longValue());
+        } else if (value instanceof Double doubleValue) {
+            writer.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            writer.writeBoolean(booleanValue);
+        } else if (value instanceof BDecimal decimalValue) {
+            writer.writeDecimal128(new Decimal128(decimalValue.decimalValue()));
+        } else if (value instanceof BMap<?, ?> mapValue) {
+            writeMap(writer, (BMap<BString, Object>) mapValue, encoderContext);
+        } else if (value instanceof BArray arrayValue) {
+            writeArray(writer, arrayValue, encoderContext);
+        } else {
+            writeJsonValue(writer, value, encoderContext);
+        }
+    }
+
+    private static void writeMap(BsonWriter writer, BMap<BString, Object> map, EncoderContext encoderContext) {
+        if (!isExtendedJson(map)) {
+            writeDocument(writer, map, encoderContext);
+            return;
+        }
+        // Object IDs are the most common extended JSON values, as they are the default IDs of the documents
+        Object objectId = map.size() == 1 ? map.get(OID) : null;
+        if (objectId instanceof BString hexString && ObjectId.isValid(hexString.getValue())) {
+            writer.writeObjectId(new ObjectId(hexString.getValue()));
+        } else {
+            writeJsonValue(writer, map, encoderContext);
+        }
+    }
+
+    private static boolean isExtendedJson(BMap<BString, Object> map) {
+        if (map.isEmpty()) {
+            return false;
+        }
+        return EXTENDED_JSON_KEYS.contains(map.entrySet().iterator().next().getKey().getValue());
+    }
+
+    private static void writeJsonValue(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        String json = "{\"" + VALUE_KEY + "\": " + StringUtils.getJsonString(value) + "}";
+        BsonValue bsonValue = BsonDocument.parse(json).get(VALUE_KEY);
+        encoderContext.encodeWithChildContext(BSON_VALUE_CODEC, writer, bsonValue);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.json.StrictJsonWriter;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Decodes BSON documents directly into Ballerina JSON values without going through the JSON text representation.
+ * The produced values are identical to parsing the document written using {@link #JSON_WRITER_SETTINGS}, so that the
+ * conversion to the target type behaves the same in both paths. BSON types that do not have such a direct
+ * representation are reported using {@link UnsupportedBsonTypeException} so that the caller can fall back to the JSON
+ * text path.
+ *
+ * @since 5.2.5
+ */
+final class BsonDecoder implements Decoder<Object> {
+
+    static final BsonDecoder INSTANCE = new BsonDecoder();
+
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+    private static final BString OID = StringUtils.fromString("$oid");
+    private static final BString DATE = StringUtils.fromString("$date");
+    private static final BString NUMBER_DECIMAL = StringUtils.fromString("$numberDecimal");
+    private static final ZoneId UTC = ZoneId.of("Z");
+    // The relaxed extended JSON format only uses the ISO-8601 date string for dates within the years 1970-9999
+    private static final long LAST_MS_OF_YEAR_9999 = 253402300799999L;
+
+    /**
+     * Relaxed extended JSON settings, except that the finite decimal values are written as JSON numbers so that they
+     * are parsed as Ballerina decimals.
+     */
+    static final JsonWriterSettings JSON_WRITER_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.RELAXED)
+            .decimal128Converter(BsonDecoder::writeDecimal)
+            .build();
+
+    private BsonDecoder() {
+    }
+
+    /**
+     * Decodes the given raw BSON document into a Ballerina JSON value.
+     *
+     * @param document The raw BSON document
+     * @return The decoded Ballerina `map<json>` value
+     * @throws UnsupportedBsonTypeException If the document contains a value that cannot be decoded directly
+     */
+    static Object decode(RawBsonDocument document) {
+        return document.decode(INSTANCE);
+    }
+
+    @Override
+    public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        return readDocument(reader);
+    }
+
+    private static BMap<BString, Object> readDocument(BsonReader reader) {
+        BMap<BString, Object> document = ValueCreator.createMapValue(JSON_MAP_TYPE);
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            BString key = StringUtils.fromString(reader.readName());
+            document.put(key, readValue(reader));
+        }
+        reader.readEndDocument();
+        return document;
+    }
+
+    private static BArray readArray(BsonReader reader) {
+        BArray array = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            array.append(readValue(reader));
+        }
+        reader.readEndArray();
+        return array;
+    }
+
+    private static Object readValue(BsonReader reader) {
+        BsonType bsonType = reader.getCurrentBsonType();
+        return switch (bsonType) {
+            case DOCUMENT -> readDocument(reader);
+            case ARRAY -> readArray(reader);
+            case STRING -> StringUtils.fromString(reader.readString());
+            case INT32 -> (long) reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case DOUBLE -> readDouble(reader);
+            case BOOLEAN -> reader.readBoolean();
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            case OBJECT_ID -> createObjectId(reader.readObjectId());
+            case DECIMAL128 -> readDecimal(reader);
+            case DATE_TIME -> readDateTime(reader);
+            default -> throw new UnsupportedBsonTypeException(bsonType);
+        };
+    }
+
+    private static Object readDouble(BsonReader reader) {
+        double value = reader.readDouble();
+        if (Double.isNaN(value) || Double.isInfinite(value) || (value == 0 && 1 / value < 0)) {
+            throw new UnsupportedBsonTypeException(BsonType.DOUBLE);
+        }
+        // JSON numbers with a fraction or an exponent are parsed as decimals
+        return ValueCreator.createDecimalValue(Double.toString(value));
+    }
+
+    private static Object readDecimal(BsonReader reader) {
+        Decimal128 value = reader.readDecimal128();
+        String decimalString = getDecimalString(value);
+        if (decimalString == null) {
+            return createWrapper(NUMBER_DECIMAL, value.toString());
+        }
+        return ValueCreator.createDecimalValue(decimalString);
+    }
+
+    private static void writeDecimal(Decimal128 value, StrictJsonWriter writer) {
+        String decimalString = getDecimalString(value);
+        if (decimalString == null) {
+            writer.writeStartObject();
+            writer.writeString(NUMBER_DECIMAL.getValue(), value.toString());
+            writer.writeEndObject();
+        } else {
+            writer.writeNumber(decimalString);
+        }
+    }
+
+    private static String getDecimalString(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            return null;
+        }
+        String decimalString = new BigDecimal(value.toString()).toString();
+        // Make sure that the JSON number is not parsed as an integer
+        if (decimalString.indexOf('.') < 0 && decimalString.indexOf('E') < 0) {
+            decimalString = decimalString + ".0";
+        }
+        return decimalString;
+    }
+
+    private static Object readDateTime(BsonReader reader) {
+        long value = reader.readDateTime();
+        if (value < 0 || value > LAST_MS_OF_YEAR_9999) {
+            throw new UnsupportedBsonTypeException(BsonType.DATE_TIME);
+        }
+        ZonedDateTime dateTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(value), UTC);
+        return createWrapper(DATE, dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+    }
+
+    /**
+     * Creates the extended JSON representation of the given object ID (i.e. <code>{"$oid": "..."}</code>).
+     *
+     * @param objectId The object ID
+     * @return The Ballerina JSON map of the object ID
+     */
+    static BMap<BString, Object> createObjectId(ObjectId objectId) {
+        return createWrapper(OID, objectId.toHexString());
+    }
+
+    private static BMap<BString, Object> createWrapper(BString key, String value) {
+        BMap<BString, Object> wrapper = ValueCreator.createMapValue(JSON_MAP_TYPE);
+        wrapper.put(key, StringUtils.fromString(value));
+        return wrapper;
+    }
+
+    /**
+     * Signals that a BSON value cannot be decoded directly and the JSON text path should be used instead.
+     */
+    static final class UnsupportedBsonTypeException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedBsonTypeException(BsonType bsonType) {
+            super("Unsupported BSON type: " + bsonType, null, false, false);
+        }
+    }
+}
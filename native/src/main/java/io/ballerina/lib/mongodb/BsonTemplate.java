@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A BSON document with parameter placeholders, which is converted from the Ballerina map once and bound to the
+ * parameter values for each execution. A placeholder is a document with the single <code>$param</code> field holding
+ * the name of the parameter (i.e. <code>{"$param": "year"}</code>).
+ * <p>
+ * The sub-documents without placeholders are kept as raw BSON, hence binding the parameters only writes the
+ * parameter values and copies the bytes of the rest of the document.
+ *
+ * @since 5.2.5
+ */
+final class BsonTemplate {
+
+    private static final String PARAMETER_KEY = "$param";
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final RawBsonDocumentCodec RAW_DOCUMENT_CODEC = new RawBsonDocumentCodec();
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+    private static final BindingEncoder BINDING_ENCODER = new BindingEncoder();
+
+    private final BsonDocument document;
+    private final List<String> parameters;
+
+    private BsonTemplate(BsonDocument document, List<String> parameters) {
+        this.document = document;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Converts the given Ballerina map to a template.
+     *
+     * @param map The Ballerina map value with parameter placeholders
+     * @return The template
+     */
+    static BsonTemplate of(BMap<BString, Object> map) {
+        BsonDocument document = new BsonDocument();
+        BMapCodec.INSTANCE.encode(new BsonDocumentWriter(document), map, EncoderContext.builder().build());
+        Set<String> parameters = new LinkedHashSet<>();
+        BsonValue template = compile(document, parameters);
+        return new BsonTemplate(template.asDocument(), new ArrayList<>(parameters));
+    }
+
+    /**
+     * Binds the template to the given parameter values. The values are written when the driver encodes the document.
+     *
+     * @param parameterValues The values of the parameters by their names
+     * @return The bound document
+     */
+    Bson bind(BMap<BString, Object> parameterValues) {
+        if (parameters.isEmpty()) {
+            return document;
+        }
+        for (String parameter : parameters) {
+            if (!parameterValues.containsKey(StringUtils.fromString(parameter))) {
+                throw Utils.createError(ErrorType.APPLICATION_ERROR,
+                        "The value of the parameter '" + parameter + "' is not provided.");
+            }
+        }
+        return new BsonDocumentWrapper<>(new Binding(document, parameterValues), BINDING_ENCODER);
+    }
+
+    boolean hasField(String field) {
+        return document.containsKey(field);
+    }
+
+    private static BsonValue compile(BsonValue value, Set<String> parameters) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            String parameter = getParameter(document);
+            if (parameter != null) {
+                parameters.add(parameter);
+                return document;
+            }
+            int parameterCount = parameters.size();
+            BsonDocument compiled = new BsonDocument();
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                compiled.put(entry.getKey(), compile(entry.getValue(), parameters));
+            }
+            // The documents without parameters are written by copying their bytes
+            return parameters.size() == parameterCount ? new RawBsonDocument(compiled, DOCUMENT_CODEC) : compiled;
+        }
+        if (value.isArray()) {
+            BsonArray compiled = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                compiled.add(compile(element, parameters));
+            }
+            return compiled;
+        }
+        return value;
+    }
+
+    private static String getParameter(BsonDocument document) {
+        if (document.size() != 1) {
+            return null;
+        }
+        BsonValue parameter = document.get(PARAMETER_KEY);
+        return parameter != null && parameter.isString() ? parameter.asString().getValue() : null;
+    }
+
+    private record Binding(BsonDocument document, BMap<BString, Object> parameterValues) {
+    }
+
+    private static final class BindingEncoder implements Encoder<Binding> {
+
+        @Override
+        public void encode(BsonWriter writer, Binding binding, EncoderContext encoderContext) {
+            writeDocument(writer, binding.document(), binding.parameterValues(), encoderContext);
+        }
+
+        @Override
+        public Class<Binding> getEncoderClass() {
+            return Binding.class;
+        }
+
+        private static void writeDocument(BsonWriter writer, BsonDocument document,
+                                          BMap<BString, Object> parameterValues, EncoderContext encoderContext) {
+            writer.writeStartDocument();
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                writer.writeName(entry.getKey());
+                writeValue(writer, entry.getValue(), parameterValues, encoderContext);
+            }
+            writer.writeEndDocument();
+        }
+
+        private static void writeValue(BsonWriter writer, BsonValue value, BMap<BString, Object> parameterValues,
+                                       EncoderContext encoderContext) {
+            if (value instanceof RawBsonDocument rawDocument) {
+                encoderContext.encodeWithChildContext(RAW_DOCUMENT_CODEC, writer, rawDocument);
+            } else if (value.isDocument()) {
+                String parameter = getParameter(value.asDocument());
+                if (parameter != null) {
+                    BMapCodec.writeValue(writer, parameterValues.get(StringUtils.fromString(parameter)),
+                            encoderContext);
+                } else {
+                    writeDocument(writer, value.asDocument(), parameterValues, encoderContext);
+                }
+            } else if (value.isArray()) {
+                writer.writeStartArray();
+                for (BsonValue element : value.asArray()) {
+                    writeValue(writer, element, parameterValues, encoderContext);
+                }
+                writer.writeEndArray();
+            } else {
+                encoderContext.encodeWithChildContext(BSON_VALUE_CODEC, writer, value);
+            }
+        }
+    }
+}
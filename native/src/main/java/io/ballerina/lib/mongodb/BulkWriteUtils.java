@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.lib.mongodb.BMapCodec.toBson;
+import static io.ballerina.lib.mongodb.Utils.createError;
+
+/**
+ * Utility methods to map the Ballerina bulk write models and results to the MongoDB driver.
+ *
+ * @since 5.2.5
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class BulkWriteUtils {
+
+    private BulkWriteUtils() {
+    }
+
+    private static final BString OPERATION = StringUtils.fromString("operation");
+    private static final BString DOCUMENT = StringUtils.fromString("document");
+    private static final BString FILTER = StringUtils.fromString("filter");
+    private static final BString UPDATE = StringUtils.fromString("update");
+    private static final BString REPLACEMENT = StringUtils.fromString("replacement");
+    private static final BString UPSERT = StringUtils.fromString("upsert");
+    private static final BString HINT = StringUtils.fromString("hint");
+    private static final BString HINT_STRING = StringUtils.fromString("hintString");
+    private static final BString ORDERED = StringUtils.fromString("ordered");
+    private static final BString BYPASS_DOCUMENT_VALIDATION = StringUtils.fromString("bypassDocumentValidation");
+    private static final BString COMMENT = StringUtils.fromString("comment");
+    private static final BString INSERTED_COUNT = StringUtils.fromString("insertedCount");
+    private static final BString MATCHED_COUNT = StringUtils.fromString("matchedCount");
+    private static final BString MODIFIED_COUNT = StringUtils.fromString("modifiedCount");
+    private static final BString DELETED_COUNT = StringUtils.fromString("deletedCount");
+    private static final BString UPSERTS = StringUtils.fromString("upserts");
+    private static final BString WRITE_ERRORS = StringUtils.fromString("writeErrors");
+    private static final BString WRITE_CONCERN_ERROR = StringUtils.fromString("writeConcernError");
+    private static final BString ACKNOWLEDGED = StringUtils.fromString("acknowledged");
+    private static final BString INDEX = StringUtils.fromString("index");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString CODE = StringUtils.fromString("code");
+    private static final BString MESSAGE = StringUtils.fromString("message");
+
+    private static final String BULK_WRITE_RESULT_TYPE = "BulkWriteResult";
+    private static final String BULK_WRITE_UPSERT_TYPE = "BulkWriteUpsert";
+    private static final String BULK_WRITE_ERROR_TYPE = "BulkWriteError";
+
+    static List<WriteModel<BMap>> getWriteModels(BArray models) {
+        List<WriteModel<BMap>> writeModels = new ArrayList<>(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            writeModels.add(getWriteModel((BMap<BString, Object>) models.get(i)));
+        }
+        return writeModels;
+    }
+
+    static BulkWriteOptions getBulkWriteOptions(BMap<BString, Object> options) {
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions();
+        bulkWriteOptions.ordered(options.getBooleanValue(ORDERED));
+        bulkWriteOptions.bypassDocumentValidation(options.getBooleanValue(BYPASS_DOCUMENT_VALIDATION));
+        if (options.containsKey(COMMENT)) {
+            bulkWriteOptions.comment(options.getStringValue(COMMENT).getValue());
+        }
+        return bulkWriteOptions;
+    }
+
+    static BMap<BString, Object> getBulkWriteResult(BulkWriteResult bulkWriteResult, List<BulkWriteError> errors) {
+        BMap<BString, Object> result = ModuleUtils.createRecordValue(BULK_WRITE_RESULT_TYPE);
+        boolean acknowledged = bulkWriteResult.wasAcknowledged();
+        result.put(INSERTED_COUNT, acknowledged ? (long) bulkWriteResult.getInsertedCount() : 0L);
+        result.put(MATCHED_COUNT, acknowledged ? (long) bulkWriteResult.getMatchedCount() : 0L);
+        result.put(MODIFIED_COUNT, acknowledged ? (long) bulkWriteResult.getModifiedCount() : 0L);
+        result.put(DELETED_COUNT, acknowledged ? (long) bulkWriteResult.getDeletedCount() : 0L);
+        result.put(ACKNOWLEDGED, acknowledged);
+
+        Type upsertType = ModuleUtils.getRecordType(BULK_WRITE_UPSERT_TYPE);
+        BArray upserts = ValueCreator.createArrayValue(TypeCreator.createArrayType(upsertType));
+        if (acknowledged) {
+            for (BulkWriteUpsert upsert : bulkWriteResult.getUpserts()) {
+                BMap<BString, Object> upsertRecord = ModuleUtils.createRecordValue(BULK_WRITE_UPSERT_TYPE);
+                upsertRecord.put(INDEX, (long) upsert.getIndex());
+                upsertRecord.put(ID, IteratorUtils.decodeValue(upsert.getId()));
+                upserts.append(upsertRecord);
+            }
+        }
+        result.put(UPSERTS, upserts);
+        result.put(WRITE_ERRORS, getWriteErrors(errors));
+        return result;
+    }
+
+    static BMap<BString, Object> getBulkWriteResult(MongoBulkWriteException e) {
+        BMap<BString, Object> result = getBulkWriteResult(e.getWriteResult(), e.getWriteErrors());
+        addWriteConcernError(result, e);
+        return result;
+    }
+
+    /**
+     * Adds the write concern error of the given exception to the given result, if there is one. The writes are
+     * applied when the write concern is not satisfied, hence the error is reported with the result instead of failing
+     * the whole operation.
+     *
+     * @param result The result of the bulk write or the insert batch
+     * @param e The exception of the bulk write
+     */
+    static void addWriteConcernError(BMap<BString, Object> result, MongoBulkWriteException e) {
+        if (e.getWriteConcernError() != null) {
+            result.put(WRITE_CONCERN_ERROR,
+                    createError(ErrorType.DATABASE_ERROR, e.getWriteConcernError().getMessage()));
+        }
+    }
+
+    static BArray getWriteErrors(List<BulkWriteError> errors) {
+        Type errorType = ModuleUtils.getRecordType(BULK_WRITE_ERROR_TYPE);
+        BArray writeErrors = ValueCreator.createArrayValue(TypeCreator.createArrayType(errorType));
+        for (BulkWriteError error : errors) {
+            BMap<BString, Object> errorRecord = ModuleUtils.createRecordValue(BULK_WRITE_ERROR_TYPE);
+            errorRecord.put(INDEX, (long) error.getIndex());
+            errorRecord.put(CODE, (long) error.getCode());
+            errorRecord.put(MESSAGE, StringUtils.fromString(error.getMessage()));
+            writeErrors.append(errorRecord);
+        }
+        return writeErrors;
+    }
+
+    private static WriteModel<BMap> getWriteModel(BMap<BString, Object> model) {
+        String operation = model.getStringValue(OPERATION).getValue();
+        return switch (Operation.valueOf(operation)) {
+            case INSERT_ONE -> new InsertOneModel<>((BMap) model.getMapValue(DOCUMENT));
+            case UPDATE_ONE -> new UpdateOneModel<>(getFilter(model), getUpdate(model), getUpdateOptions(model));
+            case UPDATE_MANY -> new UpdateManyModel<>(getFilter(model), getUpdate(model), getUpdateOptions(model));
+            case REPLACE_ONE -> new ReplaceOneModel<>(getFilter(model), (BMap) model.getMapValue(REPLACEMENT),
+                    getReplaceOptions(model));
+            case DELETE_ONE -> new DeleteOneModel<>(getFilter(model), getDeleteOptions(model));
+            case DELETE_MANY -> new DeleteManyModel<>(getFilter(model), getDeleteOptions(model));
+        };
+    }
+
+    private static Bson getFilter(BMap<BString, Object> model) {
+        return toBson((BMap<BString, Object>) model.getMapValue(FILTER));
+    }
+
+    private static Bson getUpdate(BMap<BString, Object> model) {
+        return toBson(Collection.getUpdateOperators((BMap<BString, Object>) model.getMapValue(UPDATE)));
+    }
+
+    private static UpdateOptions getUpdateOptions(BMap<BString, Object> model) {
+        UpdateOptions updateOptions = new UpdateOptions();
+        updateOptions.upsert(model.getBooleanValue(UPSERT));
+        if (model.containsKey(HINT)) {
+            updateOptions.hint(toBson((BMap<BString, Object>) model.getMapValue(HINT)));
+        }
+        if (model.containsKey(HINT_STRING)) {
+            updateOptions.hintString(model.getStringValue(HINT_STRING).getValue());
+        }
+        return updateOptions;
+    }
+
+    private static ReplaceOptions getReplaceOptions(BMap<BString, Object> model) {
+        ReplaceOptions replaceOptions = new ReplaceOptions();
+        replaceOptions.upsert(model.getBooleanValue(UPSERT));
+        if (model.containsKey(HINT)) {
+            replaceOptions.hint(toBson((BMap<BString, Object>) model.getMapValue(HINT)));
+        }
+        if (model.containsKey(HINT_STRING)) {
+            replaceOptions.hintString(model.getStringValue(HINT_STRING).getValue());
+        }
+        return replaceOptions;
+    }
+
+    private static DeleteOptions getDeleteOptions(BMap<BString, Object> model) {
+        DeleteOptions deleteOptions = new DeleteOptions();
+        if (model.containsKey(HINT)) {
+            deleteOptions.hint(toBson((BMap<BString, Object>) model.getMapValue(HINT)));
+        }
+        if (model.containsKey(HINT_STRING)) {
+            deleteOptions.hintString(model.getStringValue(HINT_STRING).getValue());
+        }
+        return deleteOptions;
+    }
+
+    enum Operation {
+        INSERT_ONE,
+        UPDATE_ONE,
+        UPDATE_MANY,
+        REPLACE_ONE,
+        DELETE_ONE,
+        DELETE_MANY
+    }
+}
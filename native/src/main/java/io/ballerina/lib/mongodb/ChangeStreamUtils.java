@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static io.ballerina.lib.mongodb.BMapCodec.toBson;
+import static io.ballerina.lib.mongodb.Utils.createDatabaseError;
+import static io.ballerina.lib.mongodb.Utils.createStream;
+
+/**
+ * Utility methods to open change streams on a client, database or collection.
+ *
+ * @since 5.2.5
+ */
+@SuppressWarnings("unchecked")
+final class ChangeStreamUtils {
+
+    private ChangeStreamUtils() {
+    }
+
+    private static final BString PIPELINE = StringUtils.fromString("pipeline");
+    private static final BString FULL_DOCUMENT = StringUtils.fromString("fullDocument");
+    private static final BString RESUME_AFTER = StringUtils.fromString("resumeAfter");
+    private static final BString START_AFTER = StringUtils.fromString("startAfter");
+    private static final BString BATCH_SIZE = StringUtils.fromString("batchSize");
+    private static final BString MAX_AWAIT_TIME_MS = StringUtils.fromString("maxAwaitTimeMS");
+
+    /**
+     * Opens a change stream and returns a stream of the change events converted to the target type.
+     *
+     * @param watch      The function to open the change stream with the given pipeline
+     * @param options    The change stream options
+     * @param targetType The type of the change events
+     * @return The stream of change events, or an error if the change stream could not be opened
+     */
+    static Object watch(Function<List<Bson>, ChangeStreamIterable<?>> watch, BMap<BString, Object> options,
+                        BTypedesc targetType) {
+        try {
+            ChangeStreamIterable<?> changeStream = watch.apply(getPipeline(options));
+            changeStream.fullDocument(FullDocument.fromString(options.getStringValue(FULL_DOCUMENT).getValue()));
+            if (options.containsKey(RESUME_AFTER)) {
+                changeStream.resumeAfter(toBsonDocument(options.getMapValue(RESUME_AFTER)));
+            }
+            if (options.containsKey(START_AFTER)) {
+                changeStream.startAfter(toBsonDocument(options.getMapValue(START_AFTER)));
+            }
+            if (options.containsKey(BATCH_SIZE)) {
+                changeStream.batchSize(options.getIntValue(BATCH_SIZE).intValue());
+            }
+            if (options.containsKey(MAX_AWAIT_TIME_MS)) {
+                changeStream.maxAwaitTime(options.getIntValue(MAX_AWAIT_TIME_MS), TimeUnit.MILLISECONDS);
+            }
+            // The raw events are decoded directly to the target type, as the documents of the other operations
+            return createStream(targetType, changeStream.withDocumentClass(RawBsonDocument.class).cursor());
+        } catch (Exception e) {
+            return createDatabaseError(e);
+        }
+    }
+
+    private static List<Bson> getPipeline(BMap<BString, Object> options) {
+        BArray stages = options.getArrayValue(PIPELINE);
+        List<Bson> pipeline = new ArrayList<>(stages.size());
+        for (int i = 0; i < stages.size(); i++) {
+            pipeline.add(toBson((BMap<BString, Object>) stages.get(i)));
+        }
+        return pipeline;
+    }
+
+    private static BsonDocument toBsonDocument(BMap<?, ?> token) {
+        return toBson((BMap<BString, Object>) token).toBsonDocument(BsonDocument.class, BMapCodec.CODEC_REGISTRY);
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.lib.mongodb;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadConcernLevel;
 import com.mongodb.ReadPreference;
@@ -28,9 +29,12 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoIterable;
+import com.mongodb.connection.ServerMonitoringMode;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
@@ -38,10 +42,13 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BValue;
+import org.bson.Document;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
@@ -56,6 +63,26 @@ import static io.ballerina.lib.mongodb.Utils.createError;
  */
 public final class Client {
 
+    private static final String ADMIN_DATABASE = "admin";
+    // Only the network section is used, hence the largest sections of the server status are excluded
+    private static final Document SERVER_STATUS_COMMAND = new Document("serverStatus", 1)
+            .append("repl", 0)
+            .append("metrics", 0)
+            .append("locks", 0)
+            .append("wiredTiger", 0)
+            .append("tcmalloc", 0);
+    private static final String NETWORK_FIELD = "network";
+    private static final String BYTES_IN_FIELD = "bytesIn";
+    private static final String BYTES_OUT_FIELD = "bytesOut";
+    private static final String PHYSICAL_BYTES_IN_FIELD = "physicalBytesIn";
+    private static final String PHYSICAL_BYTES_OUT_FIELD = "physicalBytesOut";
+    private static final String NUM_REQUESTS_FIELD = "numRequests";
+    private static final String COMPRESSION_FIELD = "compression";
+    private static final String COMPRESSOR_FIELD = "compressor";
+    private static final String DECOMPRESSOR_FIELD = "decompressor";
+    private static final String NETWORK_STATS_TYPE = "NetworkStats";
+    private static final String COMPRESSOR_STATS_TYPE = "CompressorStats";
+
     private Client() {
     }
 
@@ -63,8 +90,10 @@ public final class Client {
     public static BError initClient(BObject client, Object connection, Object options) {
         try {
             MongoClientSettings.Builder settingsBuilder = MongoClientSettings.builder();
+            BMap<BString, Object> secureSocket = null;
             if (options != null) {
                 addSettings(settingsBuilder, (BMap<BString, Object>) options);
+                secureSocket = getSecureSocket((BMap<BString, Object>) options);
             }
             if (connection instanceof BString) {
                 String url = ((BString) connection).getValue();
@@ -74,8 +103,14 @@ public final class Client {
                 addAuthSettings(settingsBuilder, (BMap<BString, Object>) configs.getMapValue(RecordField.AUTH));
                 addServerAddressSettings(settingsBuilder, (BValue) configs.get(RecordField.SERVER_ADDRESS));
             }
-            MongoClient mongoClient = MongoClients.create(settingsBuilder.build());
-            client.addNativeData(MONGO_CLIENT, mongoClient);
+            MongoClientSettings settings = settingsBuilder.build();
+            BMap<BString, Object> sslConfig = secureSocket;
+            ClientRegistry.Reference reference = ClientRegistry.acquire(settings, sslConfig,
+                    () -> createMongoClient(settings, sslConfig));
+            client.addNativeData(MONGO_CLIENT, reference.client());
+            client.addNativeData(ClientRegistry.CLIENT_REFERENCE, reference);
+            HandleCache.init(client, HandleCache.DATABASES);
+            ResultCache.initWriteVersions(client);
         } catch (Exception e) {
             String errorMessage = "Error occurred while initializing the MongoDB client.";
             return createError(e, errorMessage);
@@ -83,52 +118,113 @@ public final class Client {
         return null;
     }
 
-    public static Object listDatabaseNames(BObject client) {
+    public static Object listDatabaseNames(Environment env, BObject client) {
+        return env.yieldAndRun(() -> {
+            MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
+            try {
+                MongoIterable<String> databaseNames = mongoClient.listDatabaseNames();
+                BArray result = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
+                for (String databaseName : databaseNames) {
+                    result.append(StringUtils.fromString(databaseName));
+                }
+                return result;
+            } catch (Exception e) {
+                String errorMessage = "Error occurred while retrieving database names.";
+                return createError(e, errorMessage);
+            }
+        });
+    }
+
+    public static BError createDatabase(Environment env, BObject client, BString databaseName) {
+        return env.yieldAndRun(() -> {
+            try {
+                MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
+                mongoClient.getDatabase(databaseName.getValue());
+            } catch (Exception e) {
+                String errorMessage = "Error occurred while creating the database.";
+                return createError(e, errorMessage);
+            }
+            return null;
+        });
+    }
+
+    public static Object getCachedDatabase(BObject client, BString databaseName, BMap<BString, Object> options) {
+        return HandleCache.get(client, HandleCache.DATABASES, databaseName, options);
+    }
+
+    public static BObject cacheDatabase(BObject client, BString databaseName, BMap<BString, Object> options,
+                                        BObject database) {
+        return HandleCache.put(client, HandleCache.DATABASES, databaseName, options, database);
+    }
+
+    public static Object watch(Environment env, BObject client, BMap<BString, Object> options,
+                               BTypedesc targetType) {
         MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
-        try {
-            MongoIterable<String> databaseNames = mongoClient.listDatabaseNames();
-            BArray result = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
-            for (String databaseName : databaseNames) {
-                result.append(StringUtils.fromString(databaseName));
+        return env.yieldAndRun(() -> ChangeStreamUtils.watch(mongoClient::watch, options, targetType));
+    }
+
+    public static Object getNetworkStats(Environment env, BObject client) {
+        return env.yieldAndRun(() -> {
+            try {
+                MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
+                Document status = mongoClient.getDatabase(ADMIN_DATABASE).runCommand(SERVER_STATUS_COMMAND);
+                return getNetworkStats(status.get(NETWORK_FIELD, Document.class));
+            } catch (Exception e) {
+                String errorMessage = "Error occurred while retrieving the network statistics.";
+                return createError(e, errorMessage);
             }
-            return result;
-        } catch (Exception e) {
-            String errorMessage = "Error occurred while retrieving database names.";
-            return createError(e, errorMessage);
-        }
+        });
     }
 
-    public static BError createDatabase(BObject client, BString databaseName) {
-        try {
-            MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
-            mongoClient.getDatabase(databaseName.getValue());
-        } catch (Exception e) {
-            String errorMessage = "Error occurred while creating the database.";
-            return createError(e, errorMessage);
+    public static BError close(Environment env, BObject client) {
+        return env.yieldAndRun(() -> {
+            try {
+                ClientRegistry.Reference reference =
+                        (ClientRegistry.Reference) client.getNativeData(ClientRegistry.CLIENT_REFERENCE);
+                reference.release();
+                return null;
+            } catch (Exception e) {
+                String errorMessage = "Error occurred while closing the MongoDB client.";
+                return createError(e, errorMessage);
+            }
+        });
+    }
+
+    private static MongoClient createMongoClient(MongoClientSettings settings, BMap<BString, Object> secureSocket) {
+        MongoClientSettings.Builder settingsBuilder = MongoClientSettings.builder(settings);
+        if (secureSocket != null) {
+            SSLContext sslContext = SslUtils.initializeSSLContext(secureSocket);
+            settingsBuilder.applyToSslSettings(builder -> builder.context(sslContext));
         }
-        return null;
+        if (ClientMetrics.isEnabled()) {
+            ClientMetrics metrics = new ClientMetrics();
+            settingsBuilder.addCommandListener(metrics)
+                    .applyToConnectionPoolSettings(builder -> builder.addConnectionPoolListener(metrics))
+                    .applyToServerSettings(builder -> builder.addServerMonitorListener(metrics));
+        }
+        return MongoClients.create(settingsBuilder.build());
     }
 
-    public static BError close(BObject client) {
-        try {
-            MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
-            mongoClient.close();
+    /**
+     * Returns the secure socket configurations of the SSL context. The SSL context is created only when the driver
+     * client is created, since the clients sharing the driver client are identified by the configurations instead of
+     * the context.
+     *
+     * @param options The Ballerina connection properties
+     * @return The secure socket configurations, or <code>null</code> if a custom SSL context is not used
+     */
+    @SuppressWarnings("unchecked")
+    private static BMap<BString, Object> getSecureSocket(BMap<BString, Object> options) {
+        if (!options.getBooleanValue(RecordField.SSL_ENABLED)) {
             return null;
-        } catch (Exception e) {
-            String errorMessage = "Error occurred while closing the MongoDB client.";
-            return createError(e, errorMessage);
         }
+        return (BMap<BString, Object>) options.getMapValue(RecordField.SECURE_SOCKET);
     }
 
     @SuppressWarnings("unchecked")
     private static void addSettings(MongoClientSettings.Builder settingsBuilder, BMap<BString, Object> options) {
-        if (options.getBooleanValue(RecordField.SSL_ENABLED)) {
-            BMap<BString, Object> secureSocket =
-                    (BMap<BString, Object>) options.getMapValue(RecordField.SECURE_SOCKET);
-            if (secureSocket != null) {
-                SSLContext sslContext = SslUtils.initializeSSLContext(secureSocket);
-                settingsBuilder.applyToSslSettings(builder -> builder.enabled(true).context(sslContext));
-            }
+        if (getSecureSocket(options) != null) {
+            settingsBuilder.applyToSslSettings(builder -> builder.enabled(true));
         }
         if (options.getStringValue(RecordField.READ_CONCERN) != null) {
             String readConcern = options.getStringValue(RecordField.READ_CONCERN).getValue();
@@ -147,7 +243,7 @@ public final class Client {
         }
         if (options.getIntValue(RecordField.SOCKET_TIMEOUT) != null) {
             int socketTimeout = options.getIntValue(RecordField.SOCKET_TIMEOUT).intValue();
-            settingsBuilder.applyToSocketSettings(builder -> builder.connectTimeout(socketTimeout,
+            settingsBuilder.applyToSocketSettings(builder -> builder.readTimeout(socketTimeout,
                     TimeUnit.MILLISECONDS));
         }
         if (options.getIntValue(RecordField.CONNECTION_TIMEOUT) != null) {
@@ -187,6 +283,91 @@ public final class Client {
             int minPoolSize = options.getIntValue(RecordField.MIN_POOL_SIZE).intValue();
             settingsBuilder.applyToConnectionPoolSettings(builder -> builder.minSize(minPoolSize));
         }
+        if (options.getIntValue(RecordField.MAX_CONNECTING) != null) {
+            int maxConnecting = options.getIntValue(RecordField.MAX_CONNECTING).intValue();
+            settingsBuilder.applyToConnectionPoolSettings(builder -> builder.maxConnecting(maxConnecting));
+        }
+        if (options.getIntValue(RecordField.MAX_WAIT_TIME) != null) {
+            int maxWaitTime = options.getIntValue(RecordField.MAX_WAIT_TIME).intValue();
+            settingsBuilder.applyToConnectionPoolSettings(builder -> builder.maxWaitTime(maxWaitTime,
+                    TimeUnit.MILLISECONDS));
+        }
+        if (options.getIntValue(RecordField.MAINTENANCE_FREQUENCY) != null) {
+            int maintenanceFrequency = options.getIntValue(RecordField.MAINTENANCE_FREQUENCY).intValue();
+            settingsBuilder.applyToConnectionPoolSettings(builder -> builder.maintenanceFrequency(
+                    maintenanceFrequency, TimeUnit.MILLISECONDS));
+        }
+        if (options.getIntValue(RecordField.SERVER_SELECTION_TIMEOUT) != null) {
+            int serverSelectionTimeout = options.getIntValue(RecordField.SERVER_SELECTION_TIMEOUT).intValue();
+            settingsBuilder.applyToClusterSettings(builder -> builder.serverSelectionTimeout(serverSelectionTimeout,
+                    TimeUnit.MILLISECONDS));
+        }
+        if (options.getStringValue(RecordField.SERVER_MONITORING_MODE) != null) {
+            String serverMonitoringMode = options.getStringValue(RecordField.SERVER_MONITORING_MODE).getValue();
+            settingsBuilder.applyToServerSettings(builder -> builder.serverMonitoringMode(
+                    ServerMonitoringMode.valueOf(serverMonitoringMode)));
+        }
+        if (options.getIntValue(RecordField.RECEIVE_BUFFER_SIZE) != null) {
+            int receiveBufferSize = options.getIntValue(RecordField.RECEIVE_BUFFER_SIZE).intValue();
+            settingsBuilder.applyToSocketSettings(builder -> builder.receiveBufferSize(receiveBufferSize));
+        }
+        if (options.getIntValue(RecordField.SEND_BUFFER_SIZE) != null) {
+            int sendBufferSize = options.getIntValue(RecordField.SEND_BUFFER_SIZE).intValue();
+            settingsBuilder.applyToSocketSettings(builder -> builder.sendBufferSize(sendBufferSize));
+        }
+        if (options.getMapValue(RecordField.COMPRESSION) != null) {
+            settingsBuilder.compressorList(getCompressors(
+                    (BMap<BString, Object>) options.getMapValue(RecordField.COMPRESSION)));
+        }
+    }
+
+    private static List<MongoCompressor> getCompressors(BMap<BString, Object> compression) {
+        BArray compressors = compression.getArrayValue(RecordField.COMPRESSORS);
+        int zlibLevel = compression.getIntValue(RecordField.ZLIB_LEVEL).intValue();
+        List<MongoCompressor> compressorList = new ArrayList<>(compressors.size());
+        for (int i = 0; i < compressors.size(); i++) {
+            String compressor = compressors.getBString(i).getValue();
+            compressorList.add(switch (compressor) {
+                case "zstd" -> MongoCompressor.createZstdCompressor();
+                case "snappy" -> MongoCompressor.createSnappyCompressor();
+                default -> MongoCompressor.createZlibCompressor().withProperty(MongoCompressor.LEVEL, zlibLevel);
+            });
+        }
+        return compressorList;
+    }
+
+    private static BMap<BString, Object> getNetworkStats(Document network) {
+        BMap<BString, Object> result = ModuleUtils.createRecordValue(NETWORK_STATS_TYPE);
+        result.put(RecordField.BYTES_IN, getLong(network, BYTES_IN_FIELD));
+        result.put(RecordField.BYTES_OUT, getLong(network, BYTES_OUT_FIELD));
+        result.put(RecordField.PHYSICAL_BYTES_IN, getLong(network, PHYSICAL_BYTES_IN_FIELD));
+        result.put(RecordField.PHYSICAL_BYTES_OUT, getLong(network, PHYSICAL_BYTES_OUT_FIELD));
+        result.put(RecordField.NUM_REQUESTS, getLong(network, NUM_REQUESTS_FIELD));
+        Type compressorStatsType = ModuleUtils.getRecordType(COMPRESSOR_STATS_TYPE);
+        BMap<BString, Object> compression = ValueCreator.createMapValue(
+                TypeCreator.createMapType(compressorStatsType));
+        // The compression section is only reported when the server is configured with compressors
+        Document compressors = network.get(COMPRESSION_FIELD, Document.class);
+        if (compressors != null) {
+            for (Map.Entry<String, Object> entry : compressors.entrySet()) {
+                Document compressor = ((Document) entry.getValue()).get(COMPRESSOR_FIELD, Document.class);
+                Document decompressor = ((Document) entry.getValue()).get(DECOMPRESSOR_FIELD, Document.class);
+                BMap<BString, Object> stats = ModuleUtils.createRecordValue(COMPRESSOR_STATS_TYPE);
+                stats.put(RecordField.SENT_UNCOMPRESSED_BYTES, getLong(compressor, BYTES_IN_FIELD));
+                stats.put(RecordField.SENT_COMPRESSED_BYTES, getLong(compressor, BYTES_OUT_FIELD));
+                stats.put(RecordField.RECEIVED_COMPRESSED_BYTES, getLong(decompressor, BYTES_IN_FIELD));
+                stats.put(RecordField.RECEIVED_UNCOMPRESSED_BYTES, getLong(decompressor, BYTES_OUT_FIELD));
+                compression.put(StringUtils.fromString(entry.getKey()), stats);
+            }
+        }
+        result.put(RecordField.COMPRESSION, compression);
+        return result;
+    }
+
+    private static long getLong(Document document, String field) {
+        // The server reports the counters either as 32-bit or 64-bit integers depending on their values
+        Object value = document == null ? null : document.get(field);
+        return value instanceof Number number ? number.longValue() : 0L;
     }
 
     private static void addAuthSettings(MongoClientSettings.Builder settingsBuilder, BMap<BString, Object> auth) {
@@ -237,6 +418,25 @@ public final class Client {
         static final BString SOCKET_TIMEOUT = StringUtils.fromString("socketTimeout");
         static final BString CONNECTION_TIMEOUT = StringUtils.fromString("connectionTimeout");
         static final BString MAX_POOL_SIZE = StringUtils.fromString("maxPoolSize");
+        static final BString MAX_CONNECTING = StringUtils.fromString("maxConnecting");
+        static final BString MAX_WAIT_TIME = StringUtils.fromString("maxWaitTime");
+        static final BString MAINTENANCE_FREQUENCY = StringUtils.fromString("maintenanceFrequency");
+        static final BString SERVER_SELECTION_TIMEOUT = StringUtils.fromString("serverSelectionTimeout");
+        static final BString SERVER_MONITORING_MODE = StringUtils.fromString("serverMonitoringMode");
+        static final BString RECEIVE_BUFFER_SIZE = StringUtils.fromString("receiveBufferSize");
+        static final BString SEND_BUFFER_SIZE = StringUtils.fromString("sendBufferSize");
+        static final BString COMPRESSION = StringUtils.fromString("compression");
+        static final BString COMPRESSORS = StringUtils.fromString("compressors");
+        static final BString ZLIB_LEVEL = StringUtils.fromString("zlibLevel");
+        static final BString BYTES_IN = StringUtils.fromString("bytesIn");
+        static final BString BYTES_OUT = StringUtils.fromString("bytesOut");
+        static final BString PHYSICAL_BYTES_IN = StringUtils.fromString("physicalBytesIn");
+        static final BString PHYSICAL_BYTES_OUT = StringUtils.fromString("physicalBytesOut");
+        static final BString NUM_REQUESTS = StringUtils.fromString("numRequests");
+        static final BString SENT_UNCOMPRESSED_BYTES = StringUtils.fromString("sentUncompressedBytes");
+        static final BString SENT_COMPRESSED_BYTES = StringUtils.fromString("sentCompressedBytes");
+        static final BString RECEIVED_COMPRESSED_BYTES = StringUtils.fromString("receivedCompressedBytes");
+        static final BString RECEIVED_UNCOMPRESSED_BYTES = StringUtils.fromString("receivedUncompressedBytes");
         static final BString MAX_IDLE_TIME = StringUtils.fromString("maxIdleTime");
         static final BString MAX_LIFE_TIME = StringUtils.fromString("maxLifeTime");
         static final BString MIN_POOL_SIZE = StringUtils.fromString("minPoolSize");
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ServerHeartbeatFailedEvent;
+import com.mongodb.event.ServerHeartbeatSucceededEvent;
+import com.mongodb.event.ServerMonitorListener;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the connection pool, command and server monitoring events of a MongoDB client as Ballerina observability
+ * metrics. The listener is only registered when the metrics are enabled, hence it does not add any overhead otherwise.
+ *
+ * @since 5.2.5
+ */
+final class ClientMetrics implements ConnectionPoolListener, CommandListener, ServerMonitorListener {
+
+    private static final String DB_SYSTEM = "mongodb";
+    private static final String TAG_DB_SYSTEM = "db.system";
+    private static final String TAG_DB_NAME = "db.name";
+    private static final String TAG_DB_COLLECTION = "db.collection";
+    private static final String TAG_SERVER = "server";
+    private static final String TAG_DATABASE = "database";
+    private static final String TAG_COLLECTION = "collection";
+    private static final String TAG_COMMAND = "command";
+    private static final String GET_MORE_COMMAND = "getMore";
+    private static final String GET_MORE_COLLECTION_FIELD = "collection";
+
+    private final Map<ServerAddress, PoolMetrics> poolMetrics = new ConcurrentHashMap<>();
+    private final Map<ServerAddress, ServerMetrics> serverMetrics = new ConcurrentHashMap<>();
+    private final Map<CommandKey, CommandMetrics> commandMetrics = new ConcurrentHashMap<>();
+    // The collection is only available in the started event, hence it is kept until the command completes
+    private final Map<Integer, String> commandCollections = new ConcurrentHashMap<>();
+
+    static boolean isEnabled() {
+        return ObserveUtils.isMetricsEnabled();
+    }
+
+    /**
+     * Adds the database tags to the observation of the current remote function call, if it is observed.
+     *
+     * @param env The environment of the remote function call
+     * @param collection The Ballerina collection object
+     */
+    static void addCollectionTags(Environment env, BObject collection) {
+        if (!ObserveUtils.isObservabilityEnabled()) {
+            return;
+        }
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        if (observerContext == null) {
+            return;
+        }
+        MongoCollection<?> mongoCollection = (MongoCollection<?>) collection.getNativeData(Utils.MONGO_COLLECTION);
+        observerContext.addTag(TAG_DB_SYSTEM, DB_SYSTEM);
+        observerContext.addTag(TAG_DB_NAME, mongoCollection.getNamespace().getDatabaseName());
+        observerContext.addTag(TAG_DB_COLLECTION, mongoCollection.getNamespace().getCollectionName());
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        PoolMetrics metrics = getPoolMetrics(event.getConnectionId().getServerId().getAddress());
+        metrics.size.increment();
+        metrics.available.increment();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        PoolMetrics metrics = getPoolMetrics(event.getConnectionId().getServerId().getAddress());
+        metrics.size.decrement();
+        metrics.available.decrement();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        PoolMetrics metrics = getPoolMetrics(event.getConnectionId().getServerId().getAddress());
+        metrics.inUse.increment();
+        metrics.available.decrement();
+        metrics.checkOutWaitTime.setValue(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        PoolMetrics metrics = getPoolMetrics(event.getServerId().getAddress());
+        metrics.checkOutFailures.increment();
+        metrics.checkOutWaitTime.setValue(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        PoolMetrics metrics = getPoolMetrics(event.getConnectionId().getServerId().getAddress());
+        metrics.inUse.decrement();
+        metrics.available.increment();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String collection = getCollectionName(event.getCommandName(), event.getCommand());
+        if (collection != null) {
+            commandCollections.put(event.getRequestId(), collection);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = commandCollections.remove(event.getRequestId());
+        CommandMetrics metrics = getCommandMetrics(event.getDatabaseName(), collection, event.getCommandName());
+        metrics.requests.increment();
+        metrics.latency.setValue(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+        // The sync driver reports the raw reply, so the size is known without encoding it again
+        if (event.getResponse() instanceof RawBsonDocument response) {
+            metrics.responseBytes.increment(response.getByteBuffer().remaining());
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String collection = commandCollections.remove(event.getRequestId());
+        CommandMetrics metrics = getCommandMetrics(event.getDatabaseName(), collection, event.getCommandName());
+        metrics.requests.increment();
+        metrics.errors.increment();
+        metrics.latency.setValue(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+    }
+
+    @Override
+    public void serverHeartbeatSucceeded(ServerHeartbeatSucceededEvent event) {
+        // The awaited heartbeats of the streaming protocol wait for topology changes, hence they are not a latency
+        if (!event.isAwaited()) {
+            getServerMetrics(event.getConnectionId().getServerId().getAddress()).heartbeatLatency
+                    .setValue(event.getElapsedTime(TimeUnit.MICROSECONDS) / 1000.0);
+        }
+    }
+
+    @Override
+    public void serverHeartbeatFailed(ServerHeartbeatFailedEvent event) {
+        getServerMetrics(event.getConnectionId().getServerId().getAddress()).heartbeatFailures.increment();
+    }
+
+    private PoolMetrics getPoolMetrics(ServerAddress address) {
+        return poolMetrics.computeIfAbsent(address, PoolMetrics::new);
+    }
+
+    private ServerMetrics getServerMetrics(ServerAddress address) {
+        return serverMetrics.computeIfAbsent(address, ServerMetrics::new);
+    }
+
+    private CommandMetrics getCommandMetrics(String database, String collection, String command) {
+        return commandMetrics.computeIfAbsent(new CommandKey(database, collection == null ? "" : collection, command),
+                CommandMetrics::new);
+    }
+
+    private static String getCollectionName(String commandName, BsonDocument command) {
+        BsonValue value = GET_MORE_COMMAND.equals(commandName) ? command.get(GET_MORE_COLLECTION_FIELD) :
+                command.get(commandName);
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    private static Gauge gauge(String name, String description, Set<Tag> tags) {
+        return getRegistry().gauge(new MetricId(name, description, tags));
+    }
+
+    private static Gauge summary(String name, String description, Set<Tag> tags) {
+        return getRegistry().gauge(new MetricId(name, description, tags), StatisticConfig.DEFAULT);
+    }
+
+    private static Counter counter(String name, String description, Set<Tag> tags) {
+        return getRegistry().counter(new MetricId(name, description, tags));
+    }
+
+    private static MetricRegistry getRegistry() {
+        return DefaultMetricRegistry.getInstance();
+    }
+
+    private static final class PoolMetrics {
+
+        private final Gauge size;
+        private final Gauge inUse;
+        private final Gauge available;
+        private final Gauge checkOutWaitTime;
+        private final Counter checkOutFailures;
+
+        private PoolMetrics(ServerAddress address) {
+            Set<Tag> tags = Set.of(Tag.of(TAG_SERVER, address.toString()));
+            size = gauge("mongodb_connection_pool_size", "Number of connections in the pool", tags);
+            inUse = gauge("mongodb_connection_pool_in_use", "Number of connections checked out from the pool", tags);
+            available = gauge("mongodb_connection_pool_available", "Number of idle connections in the pool", tags);
+            checkOutWaitTime = summary("mongodb_connection_checkout_wait_time_ms",
+                    "Time taken to check out a connection from the pool in milliseconds", tags);
+            checkOutFailures = counter("mongodb_connection_checkout_failures_total",
+                    "Number of failures to check out a connection from the pool", tags);
+        }
+    }
+
+    private static final class ServerMetrics {
+
+        private final Gauge heartbeatLatency;
+        private final Counter heartbeatFailures;
+
+        private ServerMetrics(ServerAddress address) {
+            Set<Tag> tags = Set.of(Tag.of(TAG_SERVER, address.toString()));
+            heartbeatLatency = summary("mongodb_server_heartbeat_latency_ms",
+                    "Round trip time of the server monitoring heartbeats in milliseconds", tags);
+            heartbeatFailures = counter("mongodb_server_heartbeat_failures_total",
+                    "Number of failed server monitoring heartbeats", tags);
+        }
+    }
+
+    private record CommandKey(String database, String collection, String command) {
+    }
+
+    private static final class CommandMetrics {
+
+        private final Gauge latency;
+        private final Counter requests;
+        private final Counter errors;
+        private final Counter responseBytes;
+
+        private CommandMetrics(CommandKey key) {
+            Set<Tag> tags = Set.of(Tag.of(TAG_DATABASE, key.database()), Tag.of(TAG_COLLECTION, key.collection()),
+                    Tag.of(TAG_COMMAND, key.command()));
+            latency = summary("mongodb_command_latency_ms", "Time taken by the server to execute a command in " +
+                    "milliseconds, including the network round trip", tags);
+            requests = counter("mongodb_command_requests_total", "Number of commands sent to the server. The " +
+                    "number of cursor batches fetched is reported with the getMore command", tags);
+            errors = counter("mongodb_command_errors_total", "Number of failed commands", tags);
+            responseBytes = counter("mongodb_command_response_bytes_total",
+                    "Size of the replies received from the server in bytes", tags);
+        }
+    }
+}
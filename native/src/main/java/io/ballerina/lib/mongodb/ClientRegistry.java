@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the driver clients shared by the Ballerina clients with identical settings. The Ballerina clients hold a
+ * reference to the shared driver client, which is closed when the last reference is released. Hence, the Ballerina
+ * clients with identical settings share the same connection pool and server monitors.
+ *
+ * @since 5.2.5
+ */
+final class ClientRegistry {
+
+    static final String CLIENT_REFERENCE = "mongo.native.client.reference";
+
+    private static final Map<Key, SharedClient> CLIENTS = new HashMap<>();
+
+    private ClientRegistry() {
+    }
+
+    /**
+     * Acquires a reference to the driver client of the given settings, creating the client if there is no client with
+     * the same settings.
+     *
+     * @param settings The settings of the client, without the SSL context and the listeners, which are compared by
+     *                 identity
+     * @param secureSocket The Ballerina secure socket configurations of the SSL context, or <code>null</code>
+     * @param factory The factory creating the driver client of the settings
+     * @return The reference to the driver client
+     */
+    static synchronized Reference acquire(MongoClientSettings settings, Object secureSocket,
+                                          Supplier<MongoClient> factory) {
+        Key key = new Key(settings, secureSocket);
+        SharedClient sharedClient = CLIENTS.get(key);
+        if (sharedClient == null) {
+            sharedClient = new SharedClient(key, factory.get());
+            CLIENTS.put(key, sharedClient);
+        }
+        sharedClient.references++;
+        return new Reference(sharedClient);
+    }
+
+    private static synchronized boolean release(SharedClient sharedClient) {
+        sharedClient.references--;
+        if (sharedClient.references > 0) {
+            return false;
+        }
+        CLIENTS.remove(sharedClient.key);
+        return true;
+    }
+
+    private record Key(MongoClientSettings settings, Object secureSocket) {
+    }
+
+    private static final class SharedClient {
+
+        private final Key key;
+        private final MongoClient client;
+        private int references;
+
+        private SharedClient(Key key, MongoClient client) {
+            this.key = key;
+            this.client = client;
+        }
+    }
+
+    /**
+     * The reference of a Ballerina client to a shared driver client.
+     */
+    static final class Reference {
+
+        private final SharedClient sharedClient;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Reference(SharedClient sharedClient) {
+            this.sharedClient = sharedClient;
+        }
+
+        MongoClient client() {
+            return sharedClient.client;
+        }
+
+        /**
+         * Releases the reference and closes the driver client if it was the last reference. Releasing the reference
+         * more than once has no effect.
+         */
+        void release() {
+            if (released.compareAndSet(false, true) && ClientRegistry.release(sharedClient)) {
+                // The client is closed outside the lock, as it ends the server sessions
+                sharedClient.client.close();
+            }
+        }
+    }
+}
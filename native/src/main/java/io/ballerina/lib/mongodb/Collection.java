@@ -18,48 +18,79 @@
 
 package io.ballerina.lib.mongodb;
 
+import com.mongodb.CursorType;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoQueryException;
 import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.DistinctIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationAlternate;
+import com.mongodb.client.model.CollationCaseFirst;
+import com.mongodb.client.model.CollationMaxVariable;
+import com.mongodb.client.model.CollationStrength;
 import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.DeleteOptions;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.client.result.UpdateResult;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
-import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.StreamType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import org.ballerinalang.langlib.value.FromJsonStringWithType;
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import static io.ballerina.lib.mongodb.BMapCodec.toBson;
+import static io.ballerina.lib.mongodb.BulkWriteUtils.getBulkWriteOptions;
+import static io.ballerina.lib.mongodb.BulkWriteUtils.getBulkWriteResult;
+import static io.ballerina.lib.mongodb.BulkWriteUtils.getWriteModels;
+import static io.ballerina.lib.mongodb.IteratorUtils.decodeDocument;
 import static io.ballerina.lib.mongodb.ModuleUtils.getModule;
+import static io.ballerina.lib.mongodb.Utils.createDatabaseError;
 import static io.ballerina.lib.mongodb.Utils.createError;
 import static io.ballerina.lib.mongodb.Utils.createStream;
 import static io.ballerina.lib.mongodb.Utils.getPipeline;
 import static io.ballerina.lib.mongodb.Utils.getProjection;
 import static io.ballerina.lib.mongodb.Utils.getResultClass;
-import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
  * This class represents a MongoDB collection in Ballerina MongoDB client.
@@ -76,6 +107,14 @@ public final class Collection {
     private static final BString ORDERED = StringUtils.fromString("ordered");
     private static final BString LIMIT = StringUtils.fromString("limit");
     private static final BString SKIP = StringUtils.fromString("skip");
+    private static final BString BATCH_SIZE = StringUtils.fromString("batchSize");
+    private static final BString NO_CURSOR_TIMEOUT = StringUtils.fromString("noCursorTimeout");
+    private static final BString ALLOW_DISK_USE = StringUtils.fromString("allowDiskUse");
+    private static final BString MAX_AWAIT_TIME_MS = StringUtils.fromString("maxAwaitTimeMS");
+    private static final BString CURSOR_TYPE = StringUtils.fromString("cursorType");
+    private static final String NON_TAILABLE = "NON_TAILABLE";
+    private static final BString PARTIAL = StringUtils.fromString("partial");
+    private static final BString PREFETCH_SIZE = StringUtils.fromString("prefetchSize");
     private static final BString SORT = StringUtils.fromString("sort");
     private static final BString MAX_TIME_MS = StringUtils.fromString("maxTimeMS");
     private static final BString HINT = StringUtils.fromString("hint");
@@ -102,266 +141,909 @@ public final class Collection {
     private static final BString UPSERTED_ID = StringUtils.fromString("upsertedId");
     private static final BString DELETED_COUNT = StringUtils.fromString("deletedCount");
     private static final BString ACKNOWLEDGED = StringUtils.fromString("acknowledged");
+    private static final BString RETURN_DOCUMENT = StringUtils.fromString("returnDocument");
+    private static final BString PROJECTION = StringUtils.fromString("projection");
+    private static final BString COLLATION = StringUtils.fromString("collation");
+    private static final BString RETURN_KEY = StringUtils.fromString("returnKey");
+    private static final BString SHOW_RECORD_ID = StringUtils.fromString("showRecordId");
+    private static final BString LOCALE = StringUtils.fromString("locale");
+    private static final BString CASE_LEVEL = StringUtils.fromString("caseLevel");
+    private static final BString CASE_FIRST = StringUtils.fromString("caseFirst");
+    private static final BString STRENGTH = StringUtils.fromString("strength");
+    private static final BString NUMERIC_ORDERING = StringUtils.fromString("numericOrdering");
+    private static final BString ALTERNATE = StringUtils.fromString("alternate");
+    private static final BString MAX_VARIABLE = StringUtils.fromString("maxVariable");
+    private static final BString NORMALIZATION = StringUtils.fromString("normalization");
+    private static final BString BACKWARDS = StringUtils.fromString("backwards");
+    private static final BString ID = StringUtils.fromString("_id");
+    private static final BString INSERTED_ID = StringUtils.fromString("insertedId");
+    private static final BString INSERTED_IDS = StringUtils.fromString("insertedIds");
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
 
-    private static final String EMPTY_JSON = "{}";
+    private static final String INSERT_ONE_RESULT_TYPE = "InsertOneResult";
+    private static final String INSERT_MANY_RESULT_TYPE = "InsertManyResult";
     private static final String UPDATE_RESULT_TYPE = "UpdateResult";
     private static final String DELETE_RESULT_TYPE = "DeleteResult";
     private static final String INDEX_TYPE = "Index";
     static final String STREAM_COMPLETION_TYPE = "stream.completion.type";
 
-    public static BError initCollection(BObject collection, BObject database, BString collectionName) {
+    public static BError initCollection(BObject collection, BObject database, BString collectionName,
+                                        BMap<BString, Object> options) {
         try {
             MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(Utils.MONGO_DATABASE);
             MongoCollection<Document> mongoCollection = mongoDatabase.getCollection(collectionName.getValue());
+            ReadWriteConcerns concerns = ReadWriteConcerns.of(options);
+            if (concerns != null) {
+                mongoCollection = concerns.apply(mongoCollection);
+            }
             collection.addNativeData(Utils.MONGO_COLLECTION, mongoCollection);
+            collection.addNativeData(Utils.MONGO_BMAP_COLLECTION,
+                    mongoCollection.withDocumentClass(BMap.class).withCodecRegistry(BMapCodec.CODEC_REGISTRY));
+            ReadWriteConcerns.initDerivedCollections(collection, Utils.MONGO_COLLECTION);
+            ReadWriteConcerns.initDerivedCollections(collection, Utils.MONGO_BMAP_COLLECTION);
+            collection.addNativeData(HandleCache.PARENT_DATABASE, database);
+            ResultCache.init(collection, (BObject) database.getNativeData(HandleCache.PARENT_CLIENT),
+                    mongoCollection.getNamespace().getFullName(), options);
+            LookupCoalescer.init(collection, options);
+        } catch (BError e) {
+            return e;
         } catch (Exception e) {
             return createError(ErrorType.DATABASE_ERROR, e.getMessage());
         }
         return null;
     }
 
-    public static BError insertOne(BObject collection, BString entry, BMap<BString, Object> options) {
-        try {
-            MongoCollection<Document> mongoCollection =
-                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-            InsertOneOptions insertOneOptions = getInsertOneOptions(options);
-            mongoCollection.insertOne(Document.parse(entry.getValue()), insertOneOptions);
-        } catch (MongoWriteException e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getError().getMessage());
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static Object insertOne(Environment env, BObject collection, BMap<BString, Object> entry,
+                                   BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                MongoCollection<BMap> mongoCollection =
+                        ReadWriteConcerns.getCollection(collection, Utils.MONGO_BMAP_COLLECTION, options);
+                InsertOneOptions insertOneOptions = getInsertOneOptions(options);
+                // The ID is generated before sending the document, hence it is known even for unacknowledged writes
+                BMap document = BMapCodec.INSTANCE.generateIdIfAbsentFromDocument(entry);
+                ClientSession clientSession = Session.getClientSession(session);
+                InsertOneResult insertOneResult = clientSession == null ?
+                        mongoCollection.insertOne(document, insertOneOptions) :
+                        mongoCollection.insertOne(clientSession, document, insertOneOptions);
+                BMap<BString, Object> result = ModuleUtils.createRecordValue(INSERT_ONE_RESULT_TYPE);
+                result.put(INSERTED_ID, getInsertedId(document.get(ID)));
+                result.put(ACKNOWLEDGED, insertOneResult.wasAcknowledged());
+                return result;
+            } catch (MongoWriteException e) {
+                return createError(ErrorType.DATABASE_ERROR, e.getError().getMessage());
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+        });
     }
 
-    public static BError insertMany(BObject collection, BArray entries, BMap<BString, Object> options) {
-        try {
-            MongoCollection<Document> mongoCollection =
-                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-            InsertManyOptions insertManyOptions = getInsertManyOptions(options);
-            List<Document> entryList = new ArrayList<>();
-            for (String entry : entries.getStringArray()) {
-                entryList.add(Document.parse(entry));
-            }
-            mongoCollection.insertMany(entryList, insertManyOptions);
-        } catch (MongoWriteException e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getError().getMessage());
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static Object insertMany(Environment env, BObject collection, BArray entries,
+                                    BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                MongoCollection<BMap> mongoCollection =
+                        ReadWriteConcerns.getCollection(collection, Utils.MONGO_BMAP_COLLECTION, options);
+                InsertManyOptions insertManyOptions = getInsertManyOptions(options);
+                List<BMap> entryList = new ArrayList<>(entries.size());
+                BArray insertedIds = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+                for (int i = 0; i < entries.size(); i++) {
+                    BMap document = BMapCodec.INSTANCE.generateIdIfAbsentFromDocument((BMap) entries.get(i));
+                    entryList.add(document);
+                    insertedIds.append(getInsertedId(document.get(ID)));
+                }
+                ClientSession clientSession = Session.getClientSession(session);
+                InsertManyResult insertManyResult = clientSession == null ?
+                        mongoCollection.insertMany(entryList, insertManyOptions) :
+                        mongoCollection.insertMany(clientSession, entryList, insertManyOptions);
+                BMap<BString, Object> result = ModuleUtils.createRecordValue(INSERT_MANY_RESULT_TYPE);
+                result.put(INSERTED_IDS, insertedIds);
+                result.put(ACKNOWLEDGED, insertManyResult.wasAcknowledged());
+                return result;
+            } catch (MongoWriteException e) {
+                return createError(ErrorType.DATABASE_ERROR, e.getError().getMessage());
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+        });
     }
 
-    public static Object find(BObject collection, BMap<BString, Object> filter, BMap<BString, Object> options,
-                              Object projectionInput, BTypedesc targetType) {
-        try {
-            Integer limit, batchSize, skip;
-            String sort = options.get(SORT) != null ? options.get(SORT).toString() : EMPTY_JSON;
-            limit = options.getIntValue(LIMIT) != null ? options.getIntValue(LIMIT).intValue() : null;
-            batchSize = options.getIntValue(SKIP) != null ? options.getIntValue(SKIP).intValue() : null;
-            skip = options.getIntValue(SKIP) != null ? options.getIntValue(SKIP).intValue() : null;
+    public static Object find(Environment env, BObject collection, BMap<BString, Object> filter,
+                              BMap<BString, Object> options, Object projectionInput, BTypedesc targetType,
+                              Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> find(collection, toBson(filter), getSort(options),
+                toProjection(projectionInput), options, targetType, session, 0));
+    }
 
-            Document projectionDocument = getProjection(projectionInput, targetType);
-            Document filterDocument = Document.parse(filter.toString());
-            Document sortDocument = Document.parse(sort);
+    public static Object findBatches(Environment env, BObject collection, BMap<BString, Object> filter,
+                                     BMap<BString, Object> options, Object projectionInput, BTypedesc targetType,
+                                     Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> find(collection, toBson(filter), getSort(options),
+                toProjection(projectionInput), options, targetType, session, getMaxBatchSize(options)));
+    }
+
+    public static Object findPrepared(Environment env, BObject collection, BObject query,
+                                      BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                      BTypedesc targetType, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return find(collection, PreparedQuery.bindFilter(query, parameters),
+                        PreparedQuery.bindSort(query, parameters, getSort(options)),
+                        PreparedQuery.bindProjection(query, parameters), options, targetType, session, 0);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object find(BObject collection, Bson filterDocument, Bson sortDocument, Bson projection,
+                               BMap<BString, Object> options, BTypedesc targetType, Object session,
+                               int maxBatchSize) {
+        try {
+            Bson projectionDocument = getProjection(projection, targetType);
+            ResultCache resultCache = getResultCache(collection, options, session);
+            ResultCache.Key key = null;
+            long loadVersion = 0;
+            if (resultCache != null) {
+                key = ResultCache.Key.of(ResultCache.Operation.FIND, targetType.getDescribingType(), filterDocument,
+                        sortDocument, projectionDocument, options);
+                Object cachedResult = resultCache.get(key);
+                if (cachedResult != null) {
+                    return createStream(targetType, ResultCache.replay((List<RawBsonDocument>) cachedResult),
+                            getPrefetchSize(options), maxBatchSize);
+                }
+                loadVersion = resultCache.getWriteVersion();
+                // The encoded documents of the key are reused for the query to encode the query only once
+                filterDocument = key.filter();
+                sortDocument = key.sort();
+                projectionDocument = key.projection();
+            }
 
             MongoCollection<Document> mongoCollection =
-                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-            FindIterable<Document> result =
-                    mongoCollection.find(filterDocument).projection(projectionDocument).sort(sortDocument);
-            if (limit != null) {
-                result.limit(limit);
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            FindIterable<RawBsonDocument> result = getFindIterable(mongoCollection, filterDocument, session)
+                    .projection(projectionDocument).sort(sortDocument);
+            if (options.containsKey(LIMIT)) {
+                result.limit(options.getIntValue(LIMIT).intValue());
             }
-            if (batchSize != null) {
-                result.batchSize(batchSize);
+            if (options.containsKey(SKIP)) {
+                result.skip(options.getIntValue(SKIP).intValue());
             }
-            if (skip != null) {
-                result.skip(skip);
+            setCursorOptions(result, options);
+            MongoCursor<RawBsonDocument> cursor = result.iterator();
+            if (resultCache != null) {
+                cursor = resultCache.record(key, loadVersion, cursor);
             }
-            MongoCursor<Document> cursor = result.iterator();
-            return createStream(targetType, cursor);
+            return createStream(targetType, cursor, getPrefetchSize(options), maxBatchSize);
         } catch (BError e) {
             return e;
         } catch (MongoQueryException e) {
             return createError(ErrorType.APPLICATION_ERROR, e.getErrorMessage(), e);
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
         }
     }
 
-    public static Object findOne(BObject collection, BMap<BString, Object> filter, BMap<BString, Object> options,
-                                 Object projectionInput, BTypedesc targetType) {
-        try {
-            String sort = options.get(SORT) != null ? options.get(SORT).toString() : EMPTY_JSON;
+    public static Object findOne(Environment env, BObject collection, BMap<BString, Object> filter,
+                                 BMap<BString, Object> options, Object projectionInput, BTypedesc targetType,
+                                 Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> findOne(collection, toBson(filter), getSort(options),
+                toProjection(projectionInput), options, targetType, session));
+    }
+
+    public static Object findOnePrepared(Environment env, BObject collection, BObject query,
+                                         BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                         BTypedesc targetType, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return findOne(collection, PreparedQuery.bindFilter(query, parameters),
+                        PreparedQuery.bindSort(query, parameters, getSort(options)),
+                        PreparedQuery.bindProjection(query, parameters), options, targetType, session);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
 
-            Document filterDocument = Document.parse(filter.toString());
-            Document projectionDocument = getProjection(projectionInput, targetType);
-            Document sortDocument = Document.parse(sort);
+    @SuppressWarnings("unchecked")
+    private static Object findOne(BObject collection, Bson filterDocument, Bson sortDocument, Bson projection,
+                                  BMap<BString, Object> options, BTypedesc targetType, Object session) {
+        try {
+            Bson projectionDocument = getProjection(projection, targetType);
+            ResultCache resultCache = getResultCache(collection, options, session);
+            ResultCache.Key key = null;
+            long loadVersion = 0;
+            if (resultCache != null) {
+                key = ResultCache.Key.of(ResultCache.Operation.FIND_ONE, targetType.getDescribingType(),
+                        filterDocument, sortDocument, projectionDocument, options);
+                Object cachedResult = resultCache.get(key);
+                if (cachedResult != null) {
+                    return convertDocument(((Optional<RawBsonDocument>) cachedResult).orElse(null), targetType);
+                }
+                loadVersion = resultCache.getWriteVersion();
+                filterDocument = key.filter();
+                sortDocument = key.sort();
+                projectionDocument = key.projection();
+            }
 
             MongoCollection<Document> mongoCollection =
-                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-            Document result = mongoCollection.find(filterDocument)
-                    .projection(projectionDocument).sort(sortDocument).first();
-            if (result == null) {
-                return null;
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            LookupCoalescer coalescer = LookupCoalescer.get(collection, options, session);
+            BsonValue id = coalescer == null ? null : LookupCoalescer.getId(filterDocument);
+            RawBsonDocument document;
+            if (id != null) {
+                document = coalescer.find(id, projectionDocument, options, query ->
+                        getFindIterable(mongoCollection, query.filter(), null).projection(query.projection()));
+            } else {
+                FindIterable<RawBsonDocument> findIterable = getFindIterable(mongoCollection, filterDocument, session)
+                        .projection(projectionDocument).sort(sortDocument);
+                setCursorOptions(findIterable, options);
+                document = findIterable.first();
+            }
+            if (resultCache != null) {
+                // The missing documents are also cached, hence the result is wrapped to distinguish it from a miss
+                resultCache.put(key, Optional.ofNullable(document), ResultCache.getBytes(document), loadVersion);
             }
-            return FromJsonStringWithType.fromJsonStringWithType(fromString(result.toJson()), targetType);
+            return convertDocument(document, targetType);
         } catch (BError e) {
             return e;
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
         }
     }
 
-    public static Object countDocuments(BObject collection, BMap<BString, Object> filter,
-                                        BMap<BString, Object> options) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+    public static Object countDocuments(Environment env, BObject collection, BMap<BString, Object> filter,
+                                        BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> countDocuments(collection, toBson(filter), options, session));
+    }
+
+    public static Object countDocumentsPrepared(Environment env, BObject collection, BObject query,
+                                                BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                                Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return countDocuments(collection, PreparedQuery.bindFilter(query, parameters), options, session);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    private static Object countDocuments(BObject collection, Bson filterDocument, BMap<BString, Object> options,
+                                         Object session) {
         CountOptions countOptions = getCountOptions(options);
         try {
-            return mongoCollection.countDocuments(Document.parse(filter.toString()), countOptions);
+            MongoCollection<Document> mongoCollection =
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            ClientSession clientSession = Session.getClientSession(session);
+            if (clientSession != null) {
+                return mongoCollection.countDocuments(clientSession, filterDocument, countOptions);
+            }
+            ResultCache resultCache = getResultCache(collection, options, null);
+            if (resultCache == null) {
+                return mongoCollection.countDocuments(filterDocument, countOptions);
+            }
+            ResultCache.Key key = ResultCache.Key.of(ResultCache.Operation.COUNT_DOCUMENTS, null, filterDocument,
+                    null, null, options);
+            Object cachedCount = resultCache.get(key);
+            if (cachedCount != null) {
+                return cachedCount;
+            }
+            long loadVersion = resultCache.getWriteVersion();
+            long count = mongoCollection.countDocuments(key.filter(), countOptions);
+            resultCache.put(key, count, 0, loadVersion);
+            return count;
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
         }
     }
 
-    public static BError createIndex(BObject collection, BMap<BString, Object> keys, BMap<BString, Object> options) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        try {
-            mongoCollection.createIndex(Document.parse(keys.toString()), getIndexOptions(options));
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static BError createIndex(Environment env, BObject collection, BMap<BString, Object> keys,
+                                     BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            MongoCollection<Document> mongoCollection =
+                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+            try {
+                ClientSession clientSession = Session.getClientSession(session);
+                if (clientSession == null) {
+                    mongoCollection.createIndex(toBson(keys), getIndexOptions(options));
+                } else {
+                    mongoCollection.createIndex(clientSession, toBson(keys), getIndexOptions(options));
+                }
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            }
+            return null;
+        });
     }
 
-    public static Object listIndexes(BObject collection) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        try {
-            MongoCursor<Document> cursor = mongoCollection.listIndexes().iterator();
-            BObject resultIterator = ValueCreator.createObjectValue(getModule(), Utils.RESULT_ITERATOR_OBJECT_NAME);
-            resultIterator.addNativeData(Utils.MONGO_CURSOR, cursor);
-            Type indexType = ValueCreator.createRecordValue(getModule(), INDEX_TYPE).getType();
-            resultIterator.addNativeData(STREAM_COMPLETION_TYPE, indexType);
-            Type completionType = TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL);
-            StreamType streamType = TypeCreator.createStreamType(indexType, completionType);
-            return ValueCreator.createStreamValue(streamType, resultIterator);
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
+    public static Object listIndexes(Environment env, BObject collection, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            MongoCollection<Document> mongoCollection =
+                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+            try {
+                ClientSession clientSession = Session.getClientSession(session);
+                MongoCursor<Document> cursor = clientSession == null ? mongoCollection.listIndexes().iterator() :
+                        mongoCollection.listIndexes(clientSession).iterator();
+                BObject resultIterator = ValueCreator.createObjectValue(getModule(), Utils.RESULT_ITERATOR_OBJECT_NAME);
+                resultIterator.addNativeData(Utils.MONGO_CURSOR, cursor);
+                Type indexType = ModuleUtils.getRecordType(INDEX_TYPE);
+                resultIterator.addNativeData(STREAM_COMPLETION_TYPE, indexType);
+                StreamType streamType = TypeCreator.createStreamType(indexType, ModuleUtils.getStreamCompletionType());
+                return ValueCreator.createStreamValue(streamType, resultIterator);
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            }
+        });
     }
 
-    public static BError dropIndex(BObject collection, BString indexName) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        try {
-            mongoCollection.dropIndex(indexName.getValue());
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static BError dropIndex(Environment env, BObject collection, BString indexName, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            MongoCollection<Document> mongoCollection =
+                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+            try {
+                ClientSession clientSession = Session.getClientSession(session);
+                if (clientSession == null) {
+                    mongoCollection.dropIndex(indexName.getValue());
+                } else {
+                    mongoCollection.dropIndex(clientSession, indexName.getValue());
+                }
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            }
+            return null;
+        });
     }
 
-    public static BError dropIndexes(BObject collection) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        try {
-            mongoCollection.dropIndexes();
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static BError dropIndexes(Environment env, BObject collection, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            MongoCollection<Document> mongoCollection =
+                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+            try {
+                ClientSession clientSession = Session.getClientSession(session);
+                if (clientSession == null) {
+                    mongoCollection.dropIndexes();
+                } else {
+                    mongoCollection.dropIndexes(clientSession);
+                }
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            }
+            return null;
+        });
     }
 
-    public static BError drop(BObject collection) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        try {
-            mongoCollection.drop();
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static BError drop(Environment env, BObject collection, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            MongoCollection<Document> mongoCollection =
+                    (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+            try {
+                ClientSession clientSession = Session.getClientSession(session);
+                if (clientSession == null) {
+                    mongoCollection.drop();
+                } else {
+                    mongoCollection.drop(clientSession);
+                }
+                HandleCache.invalidate((BObject) collection.getNativeData(HandleCache.PARENT_DATABASE),
+                        HandleCache.COLLECTIONS, mongoCollection.getNamespace().getCollectionName());
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+            return null;
+        });
     }
 
-    public static Object updateOne(BObject collection, BMap<BString, Object> filter, BMap<BString, Object> update,
-                                   BMap<BString, Object> options) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+    public static Object updateOne(Environment env, BObject collection, BMap<BString, Object> filter,
+                                   BMap<BString, Object> update, BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> updateOne(collection, toBson(filter), toBson(getUpdateOperators(update)), options,
+                session));
+    }
+
+    public static Object updateOnePrepared(Environment env, BObject collection, BObject query,
+                                              BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                              Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return updateOne(collection, PreparedQuery.bindFilter(query, parameters),
+                        PreparedQuery.bindUpdate(query, parameters), options, session);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    private static Object updateOne(BObject collection, Bson filterDocument, Bson updateDocument,
+                                         BMap<BString, Object> options, Object session) {
         try {
-            UpdateResult updateResult = mongoCollection.updateOne(Document.parse(filter.toString()),
-                    Document.parse(getUpdateOperators(update).toString()), getUpdateOptions(options));
+            MongoCollection<Document> mongoCollection =
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            ClientSession clientSession = Session.getClientSession(session);
+            UpdateOptions updateOptions = getUpdateOptions(options);
+            UpdateResult updateResult = clientSession == null ?
+                    mongoCollection.updateOne(filterDocument, updateDocument, updateOptions) :
+                    mongoCollection.updateOne(clientSession, filterDocument, updateDocument, updateOptions);
             return getUpdateResult(updateResult);
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
+        } finally {
+            ResultCache.invalidate(collection);
         }
     }
 
-    public static Object updateMany(BObject collection, BMap<BString, Object> filter, BMap<BString, Object> update,
-                                    BMap<BString, Object> options) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+    public static Object updateMany(Environment env, BObject collection, BMap<BString, Object> filter,
+                                    BMap<BString, Object> update, BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> updateMany(collection, toBson(filter), toBson(getUpdateOperators(update)), options,
+                session));
+    }
+
+    public static Object updateManyPrepared(Environment env, BObject collection, BObject query,
+                                               BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                               Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return updateMany(collection, PreparedQuery.bindFilter(query, parameters),
+                        PreparedQuery.bindUpdate(query, parameters), options, session);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    private static Object updateMany(BObject collection, Bson filterDocument, Bson updateDocument,
+                                          BMap<BString, Object> options, Object session) {
         try {
-            UpdateResult updateResult = mongoCollection.updateMany(Document.parse(filter.toString()),
-                    Document.parse(getUpdateOperators(update).toString()), getUpdateOptions(options));
+            MongoCollection<Document> mongoCollection =
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            ClientSession clientSession = Session.getClientSession(session);
+            UpdateOptions updateOptions = getUpdateOptions(options);
+            UpdateResult updateResult = clientSession == null ?
+                    mongoCollection.updateMany(filterDocument, updateDocument, updateOptions) :
+                    mongoCollection.updateMany(clientSession, filterDocument, updateDocument, updateOptions);
             return getUpdateResult(updateResult);
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
+        } finally {
+            ResultCache.invalidate(collection);
         }
     }
 
-    public static Object distinct(BObject collection, BString fieldName, BMap<BString, Object> filter,
-                                  BTypedesc targetType) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        Class resultClass = getResultClass(targetType);
-        try {
-            if (filter != null) {
-                MongoCursor cursor = mongoCollection.distinct(fieldName.getValue(),
-                        Document.parse(filter.toString()), resultClass).cursor();
+    public static Object distinct(Environment env, BObject collection, BString fieldName, BMap<BString, Object> filter,
+                                  BTypedesc targetType, BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            Class resultClass = getResultClass(targetType);
+            try {
+                MongoCollection<Document> mongoCollection =
+                        ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+                ClientSession clientSession = Session.getClientSession(session);
+                Bson filterDocument = filter != null ? toBson(filter) : new BsonDocument();
+                DistinctIterable distinctIterable = clientSession == null ?
+                        mongoCollection.distinct(fieldName.getValue(), filterDocument, resultClass) :
+                        mongoCollection.distinct(clientSession, fieldName.getValue(), filterDocument, resultClass);
+                if (options.containsKey(BATCH_SIZE)) {
+                    distinctIterable.batchSize(options.getIntValue(BATCH_SIZE).intValue());
+                }
+                if (options.containsKey(MAX_TIME_MS)) {
+                    distinctIterable.maxTime(options.getIntValue(MAX_TIME_MS), TimeUnit.MILLISECONDS);
+                }
+                if (options.containsKey(COLLATION)) {
+                    distinctIterable.collation(getCollation(options));
+                }
+                if (options.containsKey(COMMENT)) {
+                    distinctIterable.comment(options.getStringValue(COMMENT).getValue());
+                }
+                MongoCursor cursor = distinctIterable.cursor();
                 return createStream(targetType, cursor);
+            } catch (Exception e) {
+                BError cause = createError(ErrorType.DATABASE_ERROR, e.getMessage());
+                return createError(ErrorType.DATABASE_ERROR, "Failed to retrieve distinct values", cause);
             }
-            MongoCursor cursor = mongoCollection.distinct(fieldName.getValue(), resultClass).cursor();
-            return createStream(targetType, cursor);
-        } catch (Exception e) {
-            BError cause = createError(ErrorType.DATABASE_ERROR, e.getMessage());
-            return createError(ErrorType.DATABASE_ERROR, "Failed to retrieve distinct values", cause);
-        }
+        });
     }
 
-    public static Object deleteOne(BObject collection, BMap<BString, Object> filter) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+    public static Object deleteOne(Environment env, BObject collection, BMap<BString, Object> filter,
+                                   BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> deleteOne(collection, toBson(filter), options, session));
+    }
+
+    public static Object deleteOnePrepared(Environment env, BObject collection, BObject query,
+                                           BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                           Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return deleteOne(collection, PreparedQuery.bindFilter(query, parameters), options, session);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    private static Object deleteOne(BObject collection, Bson filterDocument, BMap<BString, Object> options,
+                                    Object session) {
         try {
-            DeleteResult deleteResult = mongoCollection.deleteOne(Document.parse(filter.toString()));
+            MongoCollection<Document> mongoCollection =
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            DeleteOptions deleteOptions = getDeleteOptions(options);
+            ClientSession clientSession = Session.getClientSession(session);
+            DeleteResult deleteResult = clientSession == null ?
+                    mongoCollection.deleteOne(filterDocument, deleteOptions) :
+                    mongoCollection.deleteOne(clientSession, filterDocument, deleteOptions);
             return getDeleteResult(deleteResult);
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
+        } finally {
+            ResultCache.invalidate(collection);
         }
     }
 
-    public static Object deleteMany(BObject collection, Object filter) {
-        MongoCollection<Document> mongoCollection =
-                (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
+    @SuppressWarnings("unchecked")
+    public static Object deleteMany(Environment env, BObject collection, Object filter, BMap<BString, Object> options,
+                                    Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                Bson filterDocument = filter instanceof BString filterString ? Document.parse(filterString.getValue()) :
+                        toBson((BMap<BString, Object>) filter);
+                return deleteMany(collection, filterDocument, options, session);
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            }
+        });
+    }
+
+    public static Object deleteManyPrepared(Environment env, BObject collection, BObject query,
+                                            BMap<BString, Object> parameters, BMap<BString, Object> options,
+                                            Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                return deleteMany(collection, PreparedQuery.bindFilter(query, parameters), options, session);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    private static Object deleteMany(BObject collection, Bson filterDocument, BMap<BString, Object> options,
+                                     Object session) {
         try {
-            DeleteResult deleteResult = mongoCollection.deleteMany(Document.parse(filter.toString()));
+            MongoCollection<Document> mongoCollection =
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            DeleteOptions deleteOptions = getDeleteOptions(options);
+            ClientSession clientSession = Session.getClientSession(session);
+            DeleteResult deleteResult = clientSession == null ?
+                    mongoCollection.deleteMany(filterDocument, deleteOptions) :
+                    mongoCollection.deleteMany(clientSession, filterDocument, deleteOptions);
             return getDeleteResult(deleteResult);
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
+        } finally {
+            ResultCache.invalidate(collection);
         }
     }
 
-    public static Object aggregate(BObject collection, BArray pipeline, BTypedesc targetType) {
+    public static Object findOneAndUpdate(Environment env, BObject collection, BMap<BString, Object> filter,
+                                          BMap<BString, Object> update, BMap<BString, Object> options,
+                                          BTypedesc targetType, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                MongoCollection<RawBsonDocument> mongoCollection = getRawCollection(collection, options);
+                Bson filterDocument = toBson(filter);
+                Bson updateDocument = toBson(getUpdateOperators(update));
+                FindOneAndUpdateOptions findOneAndUpdateOptions = getFindOneAndUpdateOptions(options, targetType);
+                ClientSession clientSession = Session.getClientSession(session);
+                RawBsonDocument result = clientSession == null ?
+                        mongoCollection.findOneAndUpdate(filterDocument, updateDocument, findOneAndUpdateOptions) :
+                        mongoCollection.findOneAndUpdate(clientSession, filterDocument, updateDocument,
+                                findOneAndUpdateOptions);
+                return convertDocument(result, targetType);
+            } catch (BError e) {
+                return e;
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+        });
+    }
+
+    public static Object findOneAndReplace(Environment env, BObject collection, BMap<BString, Object> filter,
+                                           BMap<BString, Object> replacement, BMap<BString, Object> options,
+                                           BTypedesc targetType, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                MongoCollection<RawBsonDocument> mongoCollection = getRawCollection(collection, options);
+                Bson filterDocument = toBson(filter);
+                RawBsonDocument replacementDocument = new RawBsonDocument(replacement, BMapCodec.INSTANCE);
+                FindOneAndReplaceOptions findOneAndReplaceOptions = getFindOneAndReplaceOptions(options, targetType);
+                ClientSession clientSession = Session.getClientSession(session);
+                RawBsonDocument result = clientSession == null ?
+                        mongoCollection.findOneAndReplace(filterDocument, replacementDocument,
+                                findOneAndReplaceOptions) :
+                        mongoCollection.findOneAndReplace(clientSession, filterDocument, replacementDocument,
+                                findOneAndReplaceOptions);
+                return convertDocument(result, targetType);
+            } catch (BError e) {
+                return e;
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+        });
+    }
+
+    public static Object findOneAndDelete(Environment env, BObject collection, BMap<BString, Object> filter,
+                                          BMap<BString, Object> options, BTypedesc targetType, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                MongoCollection<RawBsonDocument> mongoCollection = getRawCollection(collection, options);
+                Bson filterDocument = toBson(filter);
+                FindOneAndDeleteOptions findOneAndDeleteOptions = getFindOneAndDeleteOptions(options, targetType);
+                ClientSession clientSession = Session.getClientSession(session);
+                RawBsonDocument result = clientSession == null ?
+                        mongoCollection.findOneAndDelete(filterDocument, findOneAndDeleteOptions) :
+                        mongoCollection.findOneAndDelete(clientSession, filterDocument, findOneAndDeleteOptions);
+                return convertDocument(result, targetType);
+            } catch (BError e) {
+                return e;
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+        });
+    }
+
+    public static Object bulkWrite(Environment env, BObject collection, BArray models, BMap<BString, Object> options,
+                                   Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                MongoCollection<BMap> mongoCollection =
+                        ReadWriteConcerns.getCollection(collection, Utils.MONGO_BMAP_COLLECTION, options);
+                List<WriteModel<BMap>> writeModels = getWriteModels(models);
+                ClientSession clientSession = Session.getClientSession(session);
+                BulkWriteResult bulkWriteResult = clientSession == null ?
+                        mongoCollection.bulkWrite(writeModels, getBulkWriteOptions(options)) :
+                        mongoCollection.bulkWrite(clientSession, writeModels, getBulkWriteOptions(options));
+                return getBulkWriteResult(bulkWriteResult, List.of());
+            } catch (MongoBulkWriteException e) {
+                return getBulkWriteResult(e);
+            } catch (BError e) {
+                return e;
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidate(collection);
+            }
+        });
+    }
+
+    public static Object watch(Environment env, BObject collection, BMap<BString, Object> options,
+                               BTypedesc targetType, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
         MongoCollection<Document> mongoCollection =
                 (MongoCollection<Document>) collection.getNativeData(Utils.MONGO_COLLECTION);
-        List<Document> pipelineList = getPipeline(pipeline, targetType.getDescribingType());
+        ClientSession clientSession = Session.getClientSession(session);
+        if (clientSession == null) {
+            return env.yieldAndRun(() -> ChangeStreamUtils.watch(mongoCollection::watch, options, targetType));
+        }
+        return env.yieldAndRun(() -> ChangeStreamUtils.watch(pipeline -> mongoCollection.watch(clientSession,
+                pipeline), options, targetType));
+    }
+
+    public static Object aggregate(Environment env, BObject collection, BArray pipeline, BTypedesc targetType,
+                                   BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> aggregate(collection, getPipeline(pipeline, targetType.getDescribingType()),
+                options, targetType, session, 0));
+    }
+
+    public static Object aggregateBatches(Environment env, BObject collection, BArray pipeline,
+                                          BTypedesc targetType, BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> aggregate(collection, getPipeline(pipeline, targetType.getDescribingType()),
+                options, targetType, session, getMaxBatchSize(options)));
+    }
+
+    public static Object aggregatePrepared(Environment env, BObject collection, BObject pipeline,
+                                           BMap<BString, Object> parameters, BTypedesc targetType,
+                                           BMap<BString, Object> options, Object session) {
+        ClientMetrics.addCollectionTags(env, collection);
+        return env.yieldAndRun(() -> {
+            try {
+                List<Bson> pipelineList = PreparedPipeline.bind(pipeline, parameters, targetType.getDescribingType());
+                return aggregate(collection, pipelineList, options, targetType, session, 0);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object aggregate(BObject collection, List<Bson> pipelineList, BMap<BString, Object> options,
+                                    BTypedesc targetType, Object session, int maxBatchSize) {
         try {
-            MongoCursor<Document> cursor = mongoCollection.aggregate(pipelineList).iterator();
-            return createStream(targetType, cursor);
+            MongoCollection<Document> mongoCollection =
+                    ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+            ClientSession clientSession = Session.getClientSession(session);
+            AggregateIterable<RawBsonDocument> aggregateIterable = clientSession == null ?
+                    mongoCollection.aggregate(pipelineList, RawBsonDocument.class) :
+                    mongoCollection.aggregate(clientSession, pipelineList, RawBsonDocument.class);
+            if (options.containsKey(BATCH_SIZE)) {
+                aggregateIterable.batchSize(options.getIntValue(BATCH_SIZE).intValue());
+            }
+            if (options.containsKey(ALLOW_DISK_USE)) {
+                aggregateIterable.allowDiskUse(options.getBooleanValue(ALLOW_DISK_USE));
+            }
+            if (options.containsKey(MAX_AWAIT_TIME_MS)) {
+                aggregateIterable.maxAwaitTime(options.getIntValue(MAX_AWAIT_TIME_MS), TimeUnit.MILLISECONDS);
+            }
+            if (options.containsKey(MAX_TIME_MS)) {
+                aggregateIterable.maxTime(options.getIntValue(MAX_TIME_MS), TimeUnit.MILLISECONDS);
+            }
+            if (options.containsKey(HINT)) {
+                aggregateIterable.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
+            }
+            if (options.containsKey(HINT_STRING)) {
+                aggregateIterable.hintString(options.getStringValue(HINT_STRING).getValue());
+            }
+            if (options.containsKey(COLLATION)) {
+                aggregateIterable.collation(getCollation(options));
+            }
+            if (options.containsKey(COMMENT)) {
+                aggregateIterable.comment(options.getStringValue(COMMENT).getValue());
+            }
+            MongoCursor<RawBsonDocument> cursor = aggregateIterable.iterator();
+            return createStream(targetType, cursor, getPrefetchSize(options), maxBatchSize);
         } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            return createDatabaseError(e);
+        } finally {
+            ResultCache.invalidateOutput(collection, pipelineList);
+        }
+    }
+
+    /**
+     * Returns the result cache of the given Ballerina collection if the results of the given operation can be cached.
+     * The results of the tailable cursors are not cached as they are not complete when the cursor is exhausted.
+     *
+     * @param collection The Ballerina collection object
+     * @param options The options of the operation
+     * @param session The Ballerina session object, or <code>null</code>
+     * @return The result cache, or <code>null</code> if the results are not cached
+     */
+    private static ResultCache getResultCache(BObject collection, BMap<BString, Object> options, Object session) {
+        ResultCache resultCache = ResultCache.get(collection, session);
+        if (resultCache != null && options.containsKey(CURSOR_TYPE) &&
+                !NON_TAILABLE.equals(options.getStringValue(CURSOR_TYPE).getValue())) {
+            return null;
+        }
+        return resultCache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Bson toProjection(Object projectionInput) {
+        return projectionInput == null ? null : toBson((BMap<BString, Object>) projectionInput);
+    }
+
+    /**
+     * Returns the driver collection of the given Ballerina collection with the read and write overrides of the given
+     * options, which returns the documents as raw BSON to decode them directly to the target type.
+     *
+     * @param collection The Ballerina collection object
+     * @param options The options of the operation
+     * @return The driver collection
+     */
+    private static MongoCollection<RawBsonDocument> getRawCollection(BObject collection,
+                                                                     BMap<BString, Object> options) {
+        MongoCollection<Document> mongoCollection =
+                ReadWriteConcerns.getCollection(collection, Utils.MONGO_COLLECTION, options);
+        return mongoCollection.withDocumentClass(RawBsonDocument.class);
+    }
+
+    private static Object convertDocument(RawBsonDocument document, BTypedesc targetType) {
+        if (document == null) {
+            return null;
+        }
+        return ValueUtils.convert(decodeDocument(document), targetType.getDescribingType());
+    }
+
+    private static FindIterable<RawBsonDocument> getFindIterable(MongoCollection<Document> mongoCollection,
+                                                                 Bson filter, Object session) {
+        ClientSession clientSession = Session.getClientSession(session);
+        if (clientSession == null) {
+            return mongoCollection.find(filter, RawBsonDocument.class);
+        }
+        return mongoCollection.find(clientSession, filter, RawBsonDocument.class);
+    }
+
+    private static int getMaxBatchSize(BMap<BString, Object> options) {
+        // Without a batch size, each array holds a whole batch returned by the server
+        int batchSize = options.containsKey(BATCH_SIZE) ? options.getIntValue(BATCH_SIZE).intValue() : 0;
+        return batchSize > 0 ? batchSize : Integer.MAX_VALUE;
+    }
+
+    private static int getPrefetchSize(BMap<BString, Object> options) {
+        return options.containsKey(PREFETCH_SIZE) ? options.getIntValue(PREFETCH_SIZE).intValue() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setCursorOptions(FindIterable<RawBsonDocument> findIterable, BMap<BString, Object> options) {
+        if (options.containsKey(BATCH_SIZE)) {
+            findIterable.batchSize(options.getIntValue(BATCH_SIZE).intValue());
+        }
+        if (options.containsKey(NO_CURSOR_TIMEOUT)) {
+            findIterable.noCursorTimeout(options.getBooleanValue(NO_CURSOR_TIMEOUT));
+        }
+        if (options.containsKey(ALLOW_DISK_USE)) {
+            findIterable.allowDiskUse(options.getBooleanValue(ALLOW_DISK_USE));
+        }
+        if (options.containsKey(MAX_AWAIT_TIME_MS)) {
+            findIterable.maxAwaitTime(options.getIntValue(MAX_AWAIT_TIME_MS), TimeUnit.MILLISECONDS);
+        }
+        if (options.containsKey(CURSOR_TYPE)) {
+            findIterable.cursorType(CursorType.valueOf(options.getStringValue(CURSOR_TYPE).getValue()));
+        }
+        if (options.containsKey(PARTIAL)) {
+            findIterable.partial(options.getBooleanValue(PARTIAL));
+        }
+        if (options.containsKey(MAX_TIME_MS)) {
+            findIterable.maxTime(options.getIntValue(MAX_TIME_MS), TimeUnit.MILLISECONDS);
+        }
+        if (options.containsKey(HINT)) {
+            findIterable.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
+        }
+        if (options.containsKey(HINT_STRING)) {
+            findIterable.hintString(options.getStringValue(HINT_STRING).getValue());
+        }
+        if (options.containsKey(COLLATION)) {
+            findIterable.collation(getCollation(options));
+        }
+        if (options.containsKey(COMMENT)) {
+            findIterable.comment(options.getStringValue(COMMENT).getValue());
+        }
+        if (options.containsKey(MIN)) {
+            findIterable.min(toBson((BMap<BString, Object>) options.getMapValue(MIN)));
+        }
+        if (options.containsKey(MAX)) {
+            findIterable.max(toBson((BMap<BString, Object>) options.getMapValue(MAX)));
+        }
+        if (options.containsKey(RETURN_KEY)) {
+            findIterable.returnKey(options.getBooleanValue(RETURN_KEY));
+        }
+        if (options.containsKey(SHOW_RECORD_ID)) {
+            findIterable.showRecordId(options.getBooleanValue(SHOW_RECORD_ID));
         }
     }
 
@@ -374,7 +1056,7 @@ public final class Collection {
         return insertOneOptions;
     }
 
-    private static InsertManyOptions getInsertManyOptions(BMap<BString, Object> options) {
+    static InsertManyOptions getInsertManyOptions(BMap<BString, Object> options) {
         InsertManyOptions insertManyOptions = new InsertManyOptions();
         insertManyOptions.ordered(options.getBooleanValue(ORDERED));
         insertManyOptions.bypassDocumentValidation(options.getBooleanValue(BYPASS_DOCUMENT_VALIDATION));
@@ -398,9 +1080,16 @@ public final class Collection {
         if (options.containsKey(HINT)) {
             countOptions.hint(Document.parse(options.getStringValue(HINT).getValue()));
         }
+        if (options.containsKey(COLLATION)) {
+            countOptions.collation(getCollation(options));
+        }
+        if (options.containsKey(COMMENT)) {
+            countOptions.comment(options.getStringValue(COMMENT).getValue());
+        }
         return countOptions;
     }
 
+    @SuppressWarnings("unchecked")
     private static IndexOptions getIndexOptions(BMap<BString, Object> options) {
         IndexOptions indexOptions = new IndexOptions();
         if (options.containsKey(BACKGROUND)) {
@@ -422,7 +1111,7 @@ public final class Collection {
             indexOptions.version(options.getIntValue(VERSION).intValue());
         }
         if (options.containsKey(WEIGHTS)) {
-            indexOptions.weights(Document.parse(options.getMapValue(WEIGHTS).toString()));
+            indexOptions.weights(toBson((BMap<BString, Object>) options.getMapValue(WEIGHTS)));
         }
         if (options.containsKey(DEFAULT_LANGUAGE)) {
             indexOptions.defaultLanguage(options.getStringValue(DEFAULT_LANGUAGE).getValue());
@@ -446,8 +1135,8 @@ public final class Collection {
             indexOptions.max(options.getFloatValue(MAX));
         }
         if (options.containsKey(PARTIAL_FILTER_EXPRESSION)) {
-            indexOptions.partialFilterExpression(Document.parse(
-                    options.getMapValue(PARTIAL_FILTER_EXPRESSION).toString()));
+            indexOptions.partialFilterExpression(
+                    toBson((BMap<BString, Object>) options.getMapValue(PARTIAL_FILTER_EXPRESSION)));
         }
         if (options.containsKey(HIDDEN)) {
             indexOptions.hidden(options.getBooleanValue(HIDDEN));
@@ -455,12 +1144,13 @@ public final class Collection {
         return indexOptions;
     }
 
+    @SuppressWarnings("unchecked")
     private static UpdateOptions getUpdateOptions(BMap<BString, Object> options) {
         UpdateOptions updateOptions = new UpdateOptions();
         updateOptions.upsert(options.getBooleanValue(UPSERT));
         updateOptions.bypassDocumentValidation(options.getBooleanValue(BYPASS_DOCUMENT_VALIDATION));
         if (options.containsKey(HINT)) {
-            updateOptions.hint(Document.parse(options.getStringValue(HINT).getValue()));
+            updateOptions.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
         }
         if (options.containsKey(HINT_STRING)) {
             updateOptions.hintString(options.getStringValue(HINT_STRING).getValue());
@@ -471,7 +1161,142 @@ public final class Collection {
         return updateOptions;
     }
 
-    private static BMap<BString, Object> getUpdateOperators(BMap<BString, Object> update) {
+    @SuppressWarnings("unchecked")
+    private static DeleteOptions getDeleteOptions(BMap<BString, Object> options) {
+        DeleteOptions deleteOptions = new DeleteOptions();
+        if (options.containsKey(HINT)) {
+            deleteOptions.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
+        }
+        if (options.containsKey(HINT_STRING)) {
+            deleteOptions.hintString(options.getStringValue(HINT_STRING).getValue());
+        }
+        if (options.containsKey(COLLATION)) {
+            deleteOptions.collation(getCollation(options));
+        }
+        if (options.containsKey(COMMENT)) {
+            deleteOptions.comment(options.getStringValue(COMMENT).getValue());
+        }
+        return deleteOptions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collation getCollation(BMap<BString, Object> options) {
+        BMap<BString, Object> collation = (BMap<BString, Object>) options.getMapValue(COLLATION);
+        Collation.Builder builder = Collation.builder().locale(collation.getStringValue(LOCALE).getValue());
+        if (collation.containsKey(CASE_LEVEL)) {
+            builder.caseLevel(collation.getBooleanValue(CASE_LEVEL));
+        }
+        if (collation.containsKey(CASE_FIRST)) {
+            builder.collationCaseFirst(CollationCaseFirst.fromString(collation.getStringValue(CASE_FIRST).getValue()));
+        }
+        if (collation.containsKey(STRENGTH)) {
+            builder.collationStrength(CollationStrength.fromInt(collation.getIntValue(STRENGTH).intValue()));
+        }
+        if (collation.containsKey(NUMERIC_ORDERING)) {
+            builder.numericOrdering(collation.getBooleanValue(NUMERIC_ORDERING));
+        }
+        if (collation.containsKey(ALTERNATE)) {
+            builder.collationAlternate(CollationAlternate.fromString(collation.getStringValue(ALTERNATE).getValue()));
+        }
+        if (collation.containsKey(MAX_VARIABLE)) {
+            builder.collationMaxVariable(
+                    CollationMaxVariable.fromString(collation.getStringValue(MAX_VARIABLE).getValue()));
+        }
+        if (collation.containsKey(NORMALIZATION)) {
+            builder.normalization(collation.getBooleanValue(NORMALIZATION));
+        }
+        if (collation.containsKey(BACKWARDS)) {
+            builder.backwards(collation.getBooleanValue(BACKWARDS));
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FindOneAndUpdateOptions getFindOneAndUpdateOptions(BMap<BString, Object> options,
+                                                                      BTypedesc targetType) {
+        FindOneAndUpdateOptions findOneAndUpdateOptions = new FindOneAndUpdateOptions();
+        findOneAndUpdateOptions.returnDocument(getReturnDocument(options));
+        findOneAndUpdateOptions.projection(getProjection(toProjection(options.get(PROJECTION)), targetType));
+        findOneAndUpdateOptions.upsert(options.getBooleanValue(UPSERT));
+        findOneAndUpdateOptions.bypassDocumentValidation(options.getBooleanValue(BYPASS_DOCUMENT_VALIDATION));
+        if (options.containsKey(SORT)) {
+            findOneAndUpdateOptions.sort(toBson((BMap<BString, Object>) options.getMapValue(SORT)));
+        }
+        if (options.containsKey(MAX_TIME_MS)) {
+            findOneAndUpdateOptions.maxTime(options.getIntValue(MAX_TIME_MS), TimeUnit.MILLISECONDS);
+        }
+        if (options.containsKey(HINT)) {
+            findOneAndUpdateOptions.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
+        }
+        if (options.containsKey(HINT_STRING)) {
+            findOneAndUpdateOptions.hintString(options.getStringValue(HINT_STRING).getValue());
+        }
+        if (options.containsKey(COMMENT)) {
+            findOneAndUpdateOptions.comment(options.getStringValue(COMMENT).getValue());
+        }
+        return findOneAndUpdateOptions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FindOneAndReplaceOptions getFindOneAndReplaceOptions(BMap<BString, Object> options,
+                                                                        BTypedesc targetType) {
+        FindOneAndReplaceOptions findOneAndReplaceOptions = new FindOneAndReplaceOptions();
+        findOneAndReplaceOptions.returnDocument(getReturnDocument(options));
+        findOneAndReplaceOptions.projection(getProjection(toProjection(options.get(PROJECTION)), targetType));
+        findOneAndReplaceOptions.upsert(options.getBooleanValue(UPSERT));
+        findOneAndReplaceOptions.bypassDocumentValidation(options.getBooleanValue(BYPASS_DOCUMENT_VALIDATION));
+        if (options.containsKey(SORT)) {
+            findOneAndReplaceOptions.sort(toBson((BMap<BString, Object>) options.getMapValue(SORT)));
+        }
+        if (options.containsKey(MAX_TIME_MS)) {
+            findOneAndReplaceOptions.maxTime(options.getIntValue(MAX_TIME_MS), TimeUnit.MILLISECONDS);
+        }
+        if (options.containsKey(HINT)) {
+            findOneAndReplaceOptions.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
+        }
+        if (options.containsKey(HINT_STRING)) {
+            findOneAndReplaceOptions.hintString(options.getStringValue(HINT_STRING).getValue());
+        }
+        if (options.containsKey(COMMENT)) {
+            findOneAndReplaceOptions.comment(options.getStringValue(COMMENT).getValue());
+        }
+        return findOneAndReplaceOptions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FindOneAndDeleteOptions getFindOneAndDeleteOptions(BMap<BString, Object> options,
+                                                                      BTypedesc targetType) {
+        FindOneAndDeleteOptions findOneAndDeleteOptions = new FindOneAndDeleteOptions();
+        findOneAndDeleteOptions.projection(getProjection(toProjection(options.get(PROJECTION)), targetType));
+        if (options.containsKey(SORT)) {
+            findOneAndDeleteOptions.sort(toBson((BMap<BString, Object>) options.getMapValue(SORT)));
+        }
+        if (options.containsKey(MAX_TIME_MS)) {
+            findOneAndDeleteOptions.maxTime(options.getIntValue(MAX_TIME_MS), TimeUnit.MILLISECONDS);
+        }
+        if (options.containsKey(HINT)) {
+            findOneAndDeleteOptions.hint(toBson((BMap<BString, Object>) options.getMapValue(HINT)));
+        }
+        if (options.containsKey(HINT_STRING)) {
+            findOneAndDeleteOptions.hintString(options.getStringValue(HINT_STRING).getValue());
+        }
+        if (options.containsKey(COMMENT)) {
+            findOneAndDeleteOptions.comment(options.getStringValue(COMMENT).getValue());
+        }
+        return findOneAndDeleteOptions;
+    }
+
+    private static ReturnDocument getReturnDocument(BMap<BString, Object> options) {
+        return ReturnDocument.valueOf(options.getStringValue(RETURN_DOCUMENT).getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Bson getSort(BMap<BString, Object> options) {
+        BMap<BString, Object> sort = (BMap<BString, Object>) options.getMapValue(SORT);
+        return sort != null ? toBson(sort) : new Document();
+    }
+
+    static BMap<BString, Object> getUpdateOperators(BMap<BString, Object> update) {
         BMap<BString, Object> updateOperators = ValueCreator.createMapValue();
         for (Map.Entry<BString, Object> entry : update.entrySet()) {
             BString key = StringUtils.fromString("$").concat(entry.getKey());
@@ -480,26 +1305,38 @@ public final class Collection {
         return updateOperators;
     }
 
+    private static Object getInsertedId(Object id) {
+        if (id == null || id instanceof BString || id instanceof Long || id instanceof BDecimal ||
+                id instanceof Double || id instanceof Boolean) {
+            return id;
+        }
+        // The IDs are returned the same as they are written, hence the values without a JSON counterpart (i.e. xml and
+        // table) are converted to their JSON representation
+        return JsonUtils.parse(StringUtils.getJsonString(id));
+    }
+
     private static BMap<BString, Object> getUpdateResult(UpdateResult updateResult) {
-        RecordType updateResultType =
-                (RecordType) ValueCreator.createRecordValue(getModule(), UPDATE_RESULT_TYPE).getType();
-        BMap<BString, Object> result = ValueCreator.createRecordValue(updateResultType);
-        result.put(MATCHED_COUNT, updateResult.getMatchedCount());
-        result.put(MODIFIED_COUNT, updateResult.getModifiedCount());
-        BsonValue upsertedId = updateResult.getUpsertedId();
+        BMap<BString, Object> result = ModuleUtils.createRecordValue(UPDATE_RESULT_TYPE);
+        // The counts of the unacknowledged writes are not known, hence the driver throws when they are accessed
+        boolean acknowledged = updateResult.wasAcknowledged();
+        result.put(MATCHED_COUNT, acknowledged ? updateResult.getMatchedCount() : 0L);
+        result.put(MODIFIED_COUNT, acknowledged ? updateResult.getModifiedCount() : 0L);
+        result.put(ACKNOWLEDGED, acknowledged);
+        BsonValue upsertedId = acknowledged ? updateResult.getUpsertedId() : null;
         if (upsertedId != null) {
-            String upsertedIdString = upsertedId.asObjectId().getValue().toString();
-            result.put(UPSERTED_ID, StringUtils.fromString(upsertedIdString));
+            // An object ID is returned as its hex string as before, and the other types of IDs as they are decoded
+            result.put(UPSERTED_ID, upsertedId.isObjectId() ?
+                    StringUtils.fromString(upsertedId.asObjectId().getValue().toHexString()) :
+                    IteratorUtils.decodeValue(upsertedId));
         }
         return result;
     }
 
     private static BMap<BString, Object> getDeleteResult(DeleteResult deleteResult) {
-        RecordType deleteResultType =
-                (RecordType) ValueCreator.createRecordValue(getModule(), DELETE_RESULT_TYPE).getType();
-        BMap<BString, Object> result = ValueCreator.createRecordValue(deleteResultType);
-        result.put(DELETED_COUNT, deleteResult.getDeletedCount());
-        result.put(ACKNOWLEDGED, deleteResult.wasAcknowledged());
+        BMap<BString, Object> result = ModuleUtils.createRecordValue(DELETE_RESULT_TYPE);
+        boolean acknowledged = deleteResult.wasAcknowledged();
+        result.put(DELETED_COUNT, acknowledged ? deleteResult.getDeletedCount() : 0L);
+        result.put(ACKNOWLEDGED, acknowledged);
         return result;
     }
 }
@@ -21,14 +21,17 @@ package io.ballerina.lib.mongodb;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.MongoIterable;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 
 import static io.ballerina.lib.mongodb.Utils.MONGO_CLIENT;
 import static io.ballerina.lib.mongodb.Utils.MONGO_DATABASE;
@@ -44,39 +47,50 @@ public final class Database {
     private Database() {
     }
 
-    public static BError initDatabase(BObject database, BObject client, BString dbName) {
+    public static BError initDatabase(BObject database, BObject client, BString dbName,
+                                      BMap<BString, Object> options) {
         try {
             MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
             MongoDatabase mongoDatabase = mongoClient.getDatabase(dbName.getValue());
+            ReadWriteConcerns concerns = ReadWriteConcerns.of(options);
+            if (concerns != null) {
+                mongoDatabase = concerns.apply(mongoDatabase);
+            }
             database.addNativeData(MONGO_DATABASE, mongoDatabase);
+            database.addNativeData(HandleCache.PARENT_CLIENT, client);
+            HandleCache.init(database, HandleCache.COLLECTIONS);
             return null;
         } catch (Exception e) {
             return createError(ErrorType.DATABASE_ERROR, e.getMessage());
         }
     }
 
-    public static Object listCollectionNames(BObject database) {
-        try {
-            MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
-            MongoIterable<String> collectionNames = mongoDatabase.listCollectionNames();
-            BArray result = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
-            for (String collectionName : collectionNames) {
-                result.append(StringUtils.fromString(collectionName));
+    public static Object listCollectionNames(Environment env, BObject database) {
+        return env.yieldAndRun(() -> {
+            try {
+                MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
+                MongoIterable<String> collectionNames = mongoDatabase.listCollectionNames();
+                BArray result = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
+                for (String collectionName : collectionNames) {
+                    result.append(StringUtils.fromString(collectionName));
+                }
+                return result;
+            } catch (Exception e) {
+                return createError(ErrorType.DATABASE_ERROR, e.getMessage());
             }
-            return result;
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
+        });
     }
 
-    public static Object createCollection(BObject database, BString collectionName) {
-        try {
-            MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
-            mongoDatabase.createCollection(collectionName.getValue());
-            return null;
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
+    public static Object createCollection(Environment env, BObject database, BString collectionName) {
+        return env.yieldAndRun(() -> {
+            try {
+                MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
+                mongoDatabase.createCollection(collectionName.getValue());
+                return null;
+            } catch (Exception e) {
+                return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            }
+        });
     }
 
     public static Object getCollection(BObject database, BString collectionName) {
@@ -89,13 +103,35 @@ public final class Database {
         return null;
     }
 
-    public static BError drop(BObject database) {
-        try {
-            MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
-            mongoDatabase.drop();
-        } catch (Exception e) {
-            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
-        }
-        return null;
+    public static Object getCachedCollection(BObject database, BString collectionName,
+                                             BMap<BString, Object> options) {
+        return HandleCache.get(database, HandleCache.COLLECTIONS, collectionName, options);
+    }
+
+    public static BObject cacheCollection(BObject database, BString collectionName, BMap<BString, Object> options,
+                                          BObject collection) {
+        return HandleCache.put(database, HandleCache.COLLECTIONS, collectionName, options, collection);
+    }
+
+    public static Object watch(Environment env, BObject database, BMap<BString, Object> options,
+                               BTypedesc targetType) {
+        MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
+        return env.yieldAndRun(() -> ChangeStreamUtils.watch(mongoDatabase::watch, options, targetType));
+    }
+
+    public static BError drop(Environment env, BObject database) {
+        return env.yieldAndRun(() -> {
+            try {
+                MongoDatabase mongoDatabase = (MongoDatabase) database.getNativeData(MONGO_DATABASE);
+                mongoDatabase.drop();
+                BObject client = (BObject) database.getNativeData(HandleCache.PARENT_CLIENT);
+                HandleCache.invalidateAll(database, HandleCache.COLLECTIONS);
+                HandleCache.invalidate(client, HandleCache.DATABASES, mongoDatabase.getName());
+                ResultCache.invalidateAll(client, mongoDatabase.getName() + ".");
+            } catch (Exception e) {
+                return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+            }
+            return null;
+        });
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the Ballerina database objects of a client and the Ballerina collection objects of a database, so that
+ * retrieving the same database or collection with the same options returns the same object. The handles are keyed by
+ * the name, the read and write overrides and the result cache and lookup coalescing configurations, and are
+ * invalidated when the database or the collection is dropped.
+ *
+ * @since 5.2.5
+ */
+final class HandleCache {
+
+    static final String DATABASES = "mongo.native.databases";
+    static final String COLLECTIONS = "mongo.native.collections";
+    static final String PARENT_CLIENT = "mongo.native.database.client";
+    static final String PARENT_DATABASE = "mongo.native.collection.database";
+
+    // The names are usually a handful of constants, hence the cache is cleared instead of evicting entries
+    private static final int MAX_HANDLES = 1024;
+
+    private HandleCache() {
+    }
+
+    /**
+     * Initializes the cache of the handles of the given Ballerina client or database object.
+     *
+     * @param owner The Ballerina client or database object
+     * @param nativeDataKey The native data key of the cache
+     */
+    static void init(BObject owner, String nativeDataKey) {
+        owner.addNativeData(nativeDataKey, new ConcurrentHashMap<Key, BObject>());
+    }
+
+    /**
+     * Returns the cached handle of the given name and options.
+     *
+     * @param owner The Ballerina client or database object
+     * @param nativeDataKey The native data key of the cache
+     * @param name The name of the database or the collection
+     * @param options The options of the handle
+     * @return The cached Ballerina object, or <code>null</code> if it is not cached
+     */
+    static BObject get(BObject owner, String nativeDataKey, BString name, BMap<BString, Object> options) {
+        return getHandles(owner, nativeDataKey).get(Key.of(name, options));
+    }
+
+    /**
+     * Caches the given handle, unless another handle of the same name and options is cached concurrently.
+     *
+     * @param owner The Ballerina client or database object
+     * @param nativeDataKey The native data key of the cache
+     * @param name The name of the database or the collection
+     * @param options The options of the handle
+     * @param handle The Ballerina database or collection object
+     * @return The cached Ballerina object
+     */
+    static BObject put(BObject owner, String nativeDataKey, BString name, BMap<BString, Object> options,
+                       BObject handle) {
+        Map<Key, BObject> handles = getHandles(owner, nativeDataKey);
+        if (handles.size() >= MAX_HANDLES) {
+            handles.clear();
+        }
+        BObject cachedHandle = handles.putIfAbsent(Key.of(name, options), handle);
+        return cachedHandle == null ? handle : cachedHandle;
+    }
+
+    /**
+     * Removes the cached handles of the given name, regardless of their options.
+     *
+     * @param owner The Ballerina client or database object
+     * @param nativeDataKey The native data key of the cache
+     * @param name The name of the dropped database or collection
+     */
+    static void invalidate(BObject owner, String nativeDataKey, String name) {
+        getHandles(owner, nativeDataKey).keySet().removeIf(key -> key.name().equals(name));
+    }
+
+    /**
+     * Removes all the cached handles.
+     *
+     * @param owner The Ballerina client or database object
+     * @param nativeDataKey The native data key of the cache
+     */
+    static void invalidateAll(BObject owner, String nativeDataKey) {
+        getHandles(owner, nativeDataKey).clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Key, BObject> getHandles(BObject owner, String nativeDataKey) {
+        return (Map<Key, BObject>) owner.getNativeData(nativeDataKey);
+    }
+
+    private record Key(String name, ReadWriteConcerns concerns, ResultCache.Config resultCache,
+                       LookupCoalescer.Config lookupCoalescing) {
+
+        static Key of(BString name, BMap<BString, Object> options) {
+            return new Key(name.getValue(), ReadWriteConcerns.of(options), ResultCache.Config.of(options),
+                    LookupCoalescer.Config.of(options));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.RawBsonDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.ballerina.lib.mongodb.Utils.createDatabaseError;
+import static io.ballerina.lib.mongodb.Utils.createError;
+
+/**
+ * Functions for the Ballerina MongoDB insert batch object. Each document is encoded to BSON once when it is added, so
+ * that the batch can be cut at the exact byte size and the encoded bytes are sent to the server as they are.
+ *
+ * @since 5.2.5
+ */
+public final class InsertBatch {
+
+    private InsertBatch() {
+    }
+
+    private static final String BATCH_STATE = "mongo.native.insert.batch";
+    private static final String INSERT_BATCH_RESULT_TYPE = "InsertBatchResult";
+    private static final BString BATCH_INDEX = StringUtils.fromString("batchIndex");
+    private static final BString DOCUMENT_COUNT = StringUtils.fromString("documentCount");
+    private static final BString INSERTED_COUNT = StringUtils.fromString("insertedCount");
+    private static final BString WRITE_ERRORS = StringUtils.fromString("writeErrors");
+
+    public static void initInsertBatch(BObject batch, long batchSize, long maxBatchBytes) {
+        batch.addNativeData(BATCH_STATE, new BatchState((int) batchSize, (int) maxBatchBytes));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object add(BObject batch, BMap<BString, Object> document) {
+        BatchState state = (BatchState) batch.getNativeData(BATCH_STATE);
+        RawBsonDocument encodedDocument;
+        try {
+            encodedDocument = new RawBsonDocument(BMapCodec.INSTANCE.generateIdIfAbsentFromDocument(document),
+                    BMapCodec.INSTANCE);
+        } catch (Exception e) {
+            return createError(ErrorType.APPLICATION_ERROR, "Error occurred while encoding the document: " +
+                    e.getMessage());
+        }
+        int size = encodedDocument.getByteBuffer().remaining();
+        if (!state.documents.isEmpty() && (state.isFull() || state.bytes + size > state.maxBatchBytes)) {
+            // The document does not fit into the current batch, hence it starts the next batch
+            state.pending = encodedDocument;
+            return true;
+        }
+        state.append(encodedDocument, size);
+        return state.isFull();
+    }
+
+    public static boolean isEmpty(BObject batch) {
+        BatchState state = (BatchState) batch.getNativeData(BATCH_STATE);
+        return state.documents.isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object insert(Environment env, BObject batch, BObject collection, long batchIndex,
+                                BMap<BString, Object> options, Object session) {
+        return env.yieldAndRun(() -> {
+            BatchState state = (BatchState) batch.getNativeData(BATCH_STATE);
+            MongoCollection<RawBsonDocument> mongoCollection = ReadWriteConcerns.<BMap>getCollection(collection,
+                    Utils.MONGO_BMAP_COLLECTION, options).withDocumentClass(RawBsonDocument.class);
+            List<RawBsonDocument> documents = state.documents;
+            BMap<BString, Object> result = ModuleUtils.createRecordValue(INSERT_BATCH_RESULT_TYPE);
+            result.put(BATCH_INDEX, batchIndex);
+            result.put(DOCUMENT_COUNT, (long) documents.size());
+            try {
+                ClientSession clientSession = Session.getClientSession(session);
+                if (clientSession == null) {
+                    mongoCollection.insertMany(documents, Collection.getInsertManyOptions(options));
+                } else {
+                    mongoCollection.insertMany(clientSession, documents, Collection.getInsertManyOptions(options));
+                }
+                result.put(INSERTED_COUNT, (long) documents.size());
+                result.put(WRITE_ERRORS, BulkWriteUtils.getWriteErrors(Collections.emptyList()));
+            } catch (MongoBulkWriteException e) {
+                BArray writeErrors = BulkWriteUtils.getWriteErrors(e.getWriteErrors());
+                result.put(INSERTED_COUNT, (long) e.getWriteResult().getInsertedCount());
+                result.put(WRITE_ERRORS, writeErrors);
+                BulkWriteUtils.addWriteConcernError(result, e);
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                state.next();
+                ResultCache.invalidate(collection);
+            }
+            return result;
+        });
+    }
+
+    private static final class BatchState {
+
+        private final int batchSize;
+        private final int maxBatchBytes;
+        private List<RawBsonDocument> documents = new ArrayList<>();
+        private long bytes;
+        private RawBsonDocument pending;
+
+        private BatchState(int batchSize, int maxBatchBytes) {
+            this.batchSize = batchSize;
+            this.maxBatchBytes = maxBatchBytes;
+        }
+
+        private void append(RawBsonDocument document, int size) {
+            documents.add(document);
+            bytes += size;
+        }
+
+        private boolean isFull() {
+            return documents.size() >= batchSize || bytes >= maxBatchBytes;
+        }
+
+        private void next() {
+            // The inserted list is owned by the driver call, hence a new list is used for the next batch
+            documents = new ArrayList<>();
+            bytes = 0;
+            if (pending != null) {
+                append(pending, pending.getByteBuffer().remaining());
+                pending = null;
+            }
+        }
+    }
+}
@@ -19,16 +19,27 @@
 package io.ballerina.lib.mongodb;
 
 import com.mongodb.client.MongoCursor;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 
 import static io.ballerina.lib.mongodb.Collection.STREAM_COMPLETION_TYPE;
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
@@ -42,40 +53,139 @@ public final class IteratorUtils {
     private IteratorUtils() {
     }
 
-    public static Object nextResult(BObject iterator) {
-        MongoCursor cursor = (MongoCursor) iterator.getNativeData(Utils.MONGO_CURSOR);
-        Type completionType = (Type) iterator.getNativeData(STREAM_COMPLETION_TYPE);
-        if (cursor.hasNext()) {
-            Object next = cursor.next();
-            String result;
-            if (next instanceof Document) {
-                result = ((Document) next).toJson();
-            } else if (next instanceof String) {
-                return fromString((String) next);
-            } else {
-                result = next.toString();
+    private static final BString VALUE_KEY = StringUtils.fromString("value");
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    public static Object nextResult(Environment env, BObject iterator) {
+        return env.yieldAndRun(() -> {
+            Object cursor = iterator.getNativeData(Utils.MONGO_CURSOR);
+            ArrayType batchType = (ArrayType) iterator.getNativeData(Utils.STREAM_BATCH_TYPE);
+            if (batchType != null) {
+                return nextBatch(iterator, cursor, batchType);
             }
-            try {
-                UnionType nextValueType = TypeCreator.createUnionType(completionType, PredefinedTypes.TYPE_ERROR,
-                        PredefinedTypes.TYPE_NULL);
-                return ValueUtils.convert(JsonUtils.parse(result), nextValueType);
-            } catch (BError e) {
-                String errorMessage = "Conversion error. Expected type: " + completionType + ", but found: " + result;
-                return ErrorCreator.createError(fromString(errorMessage), e);
-            } catch (Exception e) {
-                return ErrorCreator.createError(fromString("Error while iterating elements"), e);
+            return nextValue(iterator, cursor, true);
+        });
+    }
+
+    private static Object nextBatch(BObject iterator, Object cursor, ArrayType batchType) {
+        Object pendingError = iterator.getNativeData(Utils.STREAM_PENDING_ERROR);
+        if (pendingError != null) {
+            iterator.addNativeData(Utils.STREAM_PENDING_ERROR, null);
+            return pendingError;
+        }
+        int maxBatchSize = (int) iterator.getNativeData(Utils.STREAM_MAX_BATCH_SIZE);
+        Object next = nextValue(iterator, cursor, true);
+        if (next == null || next instanceof BError) {
+            return next;
+        }
+        BArray batch = ValueCreator.createArrayValue(batchType);
+        batch.append(next);
+        // Only the values which are already available are added, so that the batch does not wait for the server
+        while (batch.size() < maxBatchSize) {
+            next = nextValue(iterator, cursor, false);
+            if (next == null) {
+                break;
+            } else if (next instanceof BError) {
+                // The values which are already read are returned first, and the error is returned on the next call
+                iterator.addNativeData(Utils.STREAM_PENDING_ERROR, next);
+                break;
             }
+            batch.append(next);
+        }
+        return batch;
+    }
+
+    private static Object nextValue(BObject iterator, Object cursor, boolean wait) {
+        if (cursor instanceof ResultPrefetcher prefetcher) {
+            return wait ? prefetcher.next() : prefetcher.poll();
+        }
+        MongoCursor mongoCursor = (MongoCursor) cursor;
+        if (!wait && mongoCursor.available() == 0) {
+            return null;
+        }
+        if (mongoCursor.hasNext()) {
+            Type completionType = (Type) iterator.getNativeData(STREAM_COMPLETION_TYPE);
+            return convertNext(mongoCursor.next(), getValueType(iterator, completionType), completionType);
         }
         return null;
     }
 
-    public static BError close(BObject iterator) {
+    private static Type getValueType(BObject iterator, Type completionType) {
+        Type valueType = (Type) iterator.getNativeData(Utils.STREAM_VALUE_TYPE);
+        if (valueType == null) {
+            valueType = TypePlan.of(completionType).getValueType();
+            iterator.addNativeData(Utils.STREAM_VALUE_TYPE, valueType);
+        }
+        return valueType;
+    }
+
+    static UnionType createValueType(Type completionType) {
+        return TypeCreator.createUnionType(completionType, PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL);
+    }
+
+    static Object convertNext(Object next, Type nextValueType, Type completionType) {
+        if (next instanceof RawBsonDocument document) {
+            return convertDocument(document, nextValueType, completionType);
+        }
+        String result;
+        if (next instanceof Document) {
+            result = ((Document) next).toJson();
+        } else if (next instanceof String) {
+            return fromString((String) next);
+        } else {
+            result = next.toString();
+        }
         try {
-            MongoCursor cursor = (MongoCursor) iterator.getNativeData(Utils.MONGO_CURSOR);
-            cursor.close();
-            return null;
+            return ValueUtils.convert(JsonUtils.parse(result), nextValueType);
+        } catch (BError e) {
+            String errorMessage = "Conversion error. Expected type: " + completionType + ", but found: " + result;
+            return ErrorCreator.createError(fromString(errorMessage), e);
         } catch (Exception e) {
-            return Utils.createError(ErrorType.APPLICATION_ERROR, e.getMessage());
+            return ErrorCreator.createError(fromString("Error while iterating elements"), e);
+        }
+    }
+
+    static Object convertDocument(RawBsonDocument document, Type targetType, Type completionType) {
+        try {
+            return ValueUtils.convert(decodeDocument(document), targetType);
+        } catch (BError e) {
+            String errorMessage = "Conversion error. Expected type: " + completionType + ", but found: " +
+                    document.toJson();
+            return ErrorCreator.createError(fromString(errorMessage), e);
+        } catch (Exception e) {
+            return ErrorCreator.createError(fromString("Error while iterating elements"), e);
+        }
+    }
+
+    static Object decodeDocument(RawBsonDocument document) {
+        try {
+            return BsonDecoder.decode(document);
+        } catch (BsonDecoder.UnsupportedBsonTypeException e) {
+            // Fall back to the extended JSON representation for the BSON types without a direct mapping
+            return JsonUtils.parse(document.toJson(BsonDecoder.JSON_WRITER_SETTINGS));
         }
     }
+
+    @SuppressWarnings("unchecked")
+    static Object decodeValue(BsonValue value) {
+        BsonDocument document = new BsonDocument(VALUE_KEY.getValue(), value);
+        RawBsonDocument rawDocument = new RawBsonDocument(document, BSON_DOCUMENT_CODEC);
+        return ((BMap<BString, Object>) decodeDocument(rawDocument)).get(VALUE_KEY);
+    }
+
+    public static BError close(Environment env, BObject iterator) {
+        return env.yieldAndRun(() -> {
+            try {
+                Object cursor = iterator.getNativeData(Utils.MONGO_CURSOR);
+                if (cursor instanceof ResultPrefetcher prefetcher) {
+                    prefetcher.close();
+                } else {
+                    ((MongoCursor) cursor).close();
+                }
+                return null;
+            } catch (Exception e) {
+                return Utils.createError(ErrorType.APPLICATION_ERROR, e.getMessage());
+            }
+        });
+    }
 }
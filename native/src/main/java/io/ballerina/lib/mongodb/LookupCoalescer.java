@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Opt-in coalescing of the concurrent <code>findOne</code> operations of a collection which look up a single document
+ * by its <code>_id</code>. The first lookup opens a batch and waits for the configured window or until the batch is
+ * full, then the batch is retrieved with a single <code>$in</code> query and the documents are handed to the waiting
+ * lookups. The lookups of the same <code>_id</code> share the same result, including the lookups arriving while the
+ * query of the <code>_id</code> is running, unless a write completed through the same client after the query is sent.
+ *
+ * @since 5.2.5
+ */
+final class LookupCoalescer {
+
+    static final String LOOKUP_COALESCER = "mongo.native.collection.lookup.coalescer";
+
+    private static final BString LOOKUP_COALESCING = StringUtils.fromString("lookupCoalescing");
+    private static final BString WINDOW = StringUtils.fromString("window");
+    private static final BString MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    private static final String ID_FIELD = "_id";
+    private static final String IN_OPERATOR = "$in";
+    private static final BString LOOKUPS = StringUtils.fromString("lookups");
+    private static final BString QUERIES = StringUtils.fromString("queries");
+    private static final BString SHARED_LOOKUPS = StringUtils.fromString("sharedLookups");
+    private static final String LOOKUP_COALESCING_STATS_TYPE = "LookupCoalescingStats";
+    // The options which do not change the result of a lookup by the _id, hence the lookups with them can be batched
+    private static final Set<String> BATCHABLE_OPTIONS =
+            Set.of("readPreference", "readConcern", "sort", "batchSize", "prefetchSize");
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    private final Config config;
+    private final AtomicLong writeVersion;
+    // Guarded by this coalescer, along with the statistics
+    private final Map<Group, Batch> openBatches = new HashMap<>();
+    private final Map<Key, Lookup> runningLookups = new HashMap<>();
+    private long lookups;
+    private long queries;
+    private long sharedLookups;
+
+    private LookupCoalescer(Config config, AtomicLong writeVersion) {
+        this.config = config;
+        this.writeVersion = writeVersion;
+    }
+
+    /**
+     * Initializes the lookup coalescer of the given Ballerina collection if it is enabled in the given options. The
+     * write version of the collection must be initialized before.
+     *
+     * @param collection The Ballerina collection object
+     * @param options The options of the collection
+     */
+    static void init(BObject collection, BMap<BString, Object> options) {
+        Config config = Config.of(options);
+        if (config != null) {
+            config.validate();
+            AtomicLong writeVersion = (AtomicLong) collection.getNativeData(ResultCache.WRITE_VERSION);
+            collection.addNativeData(LOOKUP_COALESCER, new LookupCoalescer(config, writeVersion));
+        }
+    }
+
+    /**
+     * Returns the lookup coalescer of the given Ballerina collection if a <code>findOne</code> operation with the
+     * given options can be coalesced. The lookups in sessions are not coalesced, as the session is bound to a
+     * single operation at a time.
+     *
+     * @param collection The Ballerina collection object
+     * @param options The options of the operation
+     * @param session The Ballerina session object, or <code>null</code>
+     * @return The lookup coalescer, or <code>null</code> if the operation cannot be coalesced
+     */
+    public static Object getLookupCoalescingStats(BObject collection) {
+        LookupCoalescer coalescer = (LookupCoalescer) collection.getNativeData(LOOKUP_COALESCER);
+        return coalescer == null ? null : coalescer.getStats();
+    }
+
+    static LookupCoalescer get(BObject collection, BMap<BString, Object> options, Object session) {
+        LookupCoalescer coalescer = (LookupCoalescer) collection.getNativeData(LOOKUP_COALESCER);
+        if (coalescer == null || session != null) {
+            return null;
+        }
+        for (BString option : options.getKeys()) {
+            if (!BATCHABLE_OPTIONS.contains(option.getValue())) {
+                return null;
+            }
+        }
+        return coalescer;
+    }
+
+    /**
+     * Returns the <code>_id</code> of the given filter if it only matches a document by its <code>_id</code>. The
+     * values of which the equality differs between the server and the client (e.g. documents, arrays, regular
+     * expressions and <code>null</code>) are not supported.
+     *
+     * @param filter The filter of the lookup
+     * @return The <code>_id</code>, or <code>null</code> if the filter is not a lookup by the <code>_id</code>
+     */
+    static BsonValue getId(Bson filter) {
+        BsonDocument document = filter.toBsonDocument(BsonDocument.class, BMapCodec.CODEC_REGISTRY);
+        if (document.size() != 1) {
+            return null;
+        }
+        BsonValue id = document.get(ID_FIELD);
+        if (id == null) {
+            return null;
+        }
+        return switch (id.getBsonType()) {
+            case OBJECT_ID, STRING, INT32, INT64, DOUBLE, BINARY, DATE_TIME -> id;
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the document of the given <code>_id</code>, by joining an open batch or a running query of the same
+     * <code>_id</code>, or by opening a new batch.
+     *
+     * @param id The <code>_id</code> returned by {@link #getId(Bson)}
+     * @param projection The projection of the lookup
+     * @param options The options of the lookup
+     * @param loader The function retrieving the documents of a batch by the given filter and projection
+     * @return The document, or <code>null</code> if no document matches the <code>_id</code>
+     */
+    RawBsonDocument find(BsonValue id, Bson projection, BMap<BString, Object> options,
+                         Function<Query, Iterable<RawBsonDocument>> loader) {
+        BsonDocument projectionDocument = projection == null ? new BsonDocument() :
+                projection.toBsonDocument(BsonDocument.class, BMapCodec.CODEC_REGISTRY);
+        Group group = new Group(projectionDocument, ReadWriteConcerns.of(options));
+        Key key = new Key(group, normalize(id));
+        Batch batch = null;
+        Lookup lookup;
+        synchronized (this) {
+            lookups++;
+            lookup = runningLookups.get(key);
+            if (lookup == null || lookup.version != writeVersion.get()) {
+                Batch openBatch = openBatches.get(group);
+                if (openBatch == null) {
+                    batch = new Batch(group);
+                    openBatch = batch;
+                    openBatches.put(group, batch);
+                }
+                lookup = openBatch.lookups.get(key);
+                if (lookup == null) {
+                    lookup = new Lookup(id);
+                    openBatch.lookups.put(key, lookup);
+                } else {
+                    sharedLookups++;
+                }
+                if (openBatch.lookups.size() >= config.maxBatchSize()) {
+                    openBatches.remove(group);
+                    openBatch.full.countDown();
+                }
+            } else {
+                sharedLookups++;
+            }
+        }
+        if (batch != null) {
+            // The lookup which opened the batch retrieves it once the window elapses or the batch is full
+            run(batch, loader);
+        }
+        try {
+            return lookup.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void run(Batch batch, Function<Query, Iterable<RawBsonDocument>> loader) {
+        try {
+            batch.full.await(config.windowNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<BsonValue> ids = new ArrayList<>(batch.lookups.size());
+        synchronized (this) {
+            openBatches.remove(batch.group, batch);
+            queries++;
+            long version = writeVersion.get();
+            for (Map.Entry<Key, Lookup> entry : batch.lookups.entrySet()) {
+                entry.getValue().version = version;
+                runningLookups.put(entry.getKey(), entry.getValue());
+                ids.add(entry.getValue().id);
+            }
+        }
+        try {
+            Map<BsonValue, RawBsonDocument> documents = new HashMap<>();
+            Query query = getQuery(batch.group.projection(), ids);
+            for (RawBsonDocument document : loader.apply(query)) {
+                BsonValue id = document.get(ID_FIELD);
+                documents.put(normalize(id), query.idExcluded() ? withoutId(document) : document);
+            }
+            for (Map.Entry<Key, Lookup> entry : batch.lookups.entrySet()) {
+                entry.getValue().result.complete(documents.get(entry.getKey().id()));
+            }
+        } catch (RuntimeException e) {
+            for (Lookup lookup : batch.lookups.values()) {
+                lookup.result.completeExceptionally(e);
+            }
+        } finally {
+            synchronized (this) {
+                batch.lookups.forEach(runningLookups::remove);
+            }
+        }
+    }
+
+    private synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ModuleUtils.createRecordValue(LOOKUP_COALESCING_STATS_TYPE);
+        stats.put(LOOKUPS, lookups);
+        stats.put(QUERIES, queries);
+        stats.put(SHARED_LOOKUPS, sharedLookups);
+        return stats;
+    }
+
+    private static Query getQuery(BsonDocument projection, List<BsonValue> ids) {
+        BsonDocument filter = new BsonDocument(ID_FIELD, new BsonDocument(IN_OPERATOR, new BsonArray(ids)));
+        BsonValue idProjection = projection.get(ID_FIELD);
+        boolean idExcluded = idProjection != null &&
+                (idProjection.isNumber() && idProjection.asNumber().intValue() == 0 ||
+                        idProjection.isBoolean() && !idProjection.asBoolean().getValue());
+        if (!idExcluded) {
+            return new Query(filter, projection, false);
+        }
+        // The _id is required to match the documents to the lookups, hence it is removed after the retrieval
+        BsonDocument batchProjection = new BsonDocument();
+        batchProjection.putAll(projection);
+        batchProjection.remove(ID_FIELD);
+        return new Query(filter, batchProjection, true);
+    }
+
+    private static RawBsonDocument withoutId(RawBsonDocument document) {
+        BsonDocument result = new BsonDocument();
+        for (Map.Entry<String, BsonValue> field : document.entrySet()) {
+            if (!ID_FIELD.equals(field.getKey())) {
+                result.put(field.getKey(), field.getValue());
+            }
+        }
+        return new RawBsonDocument(result, DOCUMENT_CODEC);
+    }
+
+    /**
+     * Normalizes the integral numbers to 64-bit integers, as the server matches the numbers regardless of their
+     * types while the BSON values are only equal to the values of the same type.
+     */
+    private static BsonValue normalize(BsonValue id) {
+        if (id == null) {
+            return null;
+        }
+        if (id.isInt32()) {
+            return new BsonInt64(id.asInt32().getValue());
+        }
+        if (id.isDouble()) {
+            double value = id.asDouble().getValue();
+            if (value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+                return new BsonInt64((long) value);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * The query of a batch.
+     *
+     * @param filter The <code>$in</code> filter of the <code>_id</code>s of the batch
+     * @param projection The projection of the batch, which always includes the <code>_id</code>
+     * @param idExcluded Whether the <code>_id</code> is excluded by the projection of the lookups
+     */
+    record Query(BsonDocument filter, BsonDocument projection, boolean idExcluded) {
+    }
+
+    /**
+     * The lookups which can be retrieved with the same query.
+     */
+    private record Group(BsonDocument projection, ReadWriteConcerns concerns) {
+    }
+
+    private record Key(Group group, BsonValue id) {
+    }
+
+    private static final class Batch {
+
+        private final Group group;
+        private final Map<Key, Lookup> lookups = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private Batch(Group group) {
+            this.group = group;
+        }
+    }
+
+    private static final class Lookup {
+
+        private final BsonValue id;
+        private final CompletableFuture<RawBsonDocument> result = new CompletableFuture<>();
+        // The write version read before sending the query, guarded by the coalescer
+        private long version = -1;
+
+        private Lookup(BsonValue id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * The configurations of the lookup coalescer.
+     *
+     * @param windowNanos The time to wait for more lookups after the first lookup of a batch in nanoseconds
+     * @param maxBatchSize The maximum number of <code>_id</code>s in a batch
+     */
+    record Config(long windowNanos, long maxBatchSize) {
+
+        @SuppressWarnings("unchecked")
+        static Config of(BMap<BString, Object> options) {
+            BMap<BString, Object> config = (BMap<BString, Object>) options.getMapValue(LOOKUP_COALESCING);
+            if (config == null) {
+                return null;
+            }
+            double window = ((BDecimal) config.get(WINDOW)).floatValue();
+            return new Config((long) (window * TimeUnit.SECONDS.toNanos(1)), config.getIntValue(MAX_BATCH_SIZE));
+        }
+
+        private void validate() {
+            if (windowNanos < 0 || maxBatchSize <= 0) {
+                throw Utils.createError(ErrorType.APPLICATION_ERROR,
+                        "The window of the lookup coalescing must not be negative and the maximum batch size " +
+                                "must be positive.");
+            }
+        }
+    }
+}
@@ -20,6 +20,19 @@ package io.ballerina.lib.mongodb;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Module utils for the Ballerina MongoDB connector to obtain the module info in the init.
@@ -30,6 +43,9 @@ public class ModuleUtils {
     }
 
     private static Module module;
+    private static Map<String, RecordType> recordTypes = Map.of();
+    private static final UnionType STREAM_COMPLETION_TYPE =
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL);
 
     public static void setModule(Environment environment) {
         module = environment.getCurrentModule();
@@ -38,4 +54,42 @@ public class ModuleUtils {
     public static Module getModule() {
         return module;
     }
+
+    public static void setRecordTypes(BMap<BString, Object> types) {
+        Map<String, RecordType> typeMap = new HashMap<>();
+        for (Map.Entry<BString, Object> entry : types.entrySet()) {
+            Type type = TypeUtils.getImpliedType(((BTypedesc) entry.getValue()).getDescribingType());
+            typeMap.put(entry.getKey().getValue(), (RecordType) type);
+        }
+        recordTypes = Map.copyOf(typeMap);
+    }
+
+    /**
+     * Returns the record type of the module with the given name, which is resolved at the module initialization.
+     *
+     * @param typeName The name of the record type
+     * @return The record type
+     */
+    static RecordType getRecordType(String typeName) {
+        return recordTypes.get(typeName);
+    }
+
+    /**
+     * Creates a value of the record type of the module with the given name.
+     *
+     * @param typeName The name of the record type
+     * @return The record value
+     */
+    static BMap<BString, Object> createRecordValue(String typeName) {
+        return ValueCreator.createRecordValue(recordTypes.get(typeName));
+    }
+
+    /**
+     * Returns the completion type of the streams returned by the connector, i.e. <code>error?</code>.
+     *
+     * @return The stream completion type
+     */
+    static UnionType getStreamCompletionType() {
+        return STREAM_COMPLETION_TYPE;
+    }
 }
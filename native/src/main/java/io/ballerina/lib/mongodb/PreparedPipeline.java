@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.lib.mongodb.Utils.createError;
+
+/**
+ * Native methods related to the Ballerina MongoDB prepared aggregation pipeline.
+ *
+ * @since 5.2.5
+ */
+public final class PreparedPipeline {
+
+    private static final String PREPARED_STAGES = "mongo.native.pipeline.stages";
+    private static final String PROJECT_STAGE = "$project";
+
+    private PreparedPipeline() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BError preparePipeline(BObject pipeline, BArray stages) {
+        try {
+            List<BsonTemplate> templates = new ArrayList<>(stages.size());
+            for (int i = 0; i < stages.size(); i++) {
+                templates.add(BsonTemplate.of((BMap<BString, Object>) stages.get(i)));
+            }
+            pipeline.addNativeData(PREPARED_STAGES, List.copyOf(templates));
+            return null;
+        } catch (Exception e) {
+            return createError(ErrorType.APPLICATION_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * Binds the stages of the given prepared pipeline to the given parameter values. Same as the pipelines which are
+     * not prepared, a projection stage of the target type is added if the pipeline does not have one and does not end
+     * with an output stage.
+     *
+     * @param pipeline The Ballerina prepared pipeline object
+     * @param parameterValues The values of the parameters by their names
+     * @param targetType The type of the returned documents
+     * @return The stages of the pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static List<Bson> bind(BObject pipeline, BMap<BString, Object> parameterValues, Type targetType) {
+        List<BsonTemplate> templates = (List<BsonTemplate>) pipeline.getNativeData(PREPARED_STAGES);
+        List<Bson> stages = new ArrayList<>(templates.size() + 1);
+        boolean projectionPresent = false;
+        for (BsonTemplate template : templates) {
+            projectionPresent |= template.hasField(PROJECT_STAGE);
+            stages.add(template.bind(parameterValues));
+        }
+        if (!projectionPresent && Utils.getOutputStage(stages) == null) {
+            stages.add(TypePlan.of(targetType).getProjectionStage());
+        }
+        return stages;
+    }
+}
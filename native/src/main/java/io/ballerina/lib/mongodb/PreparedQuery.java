@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.conversions.Bson;
+
+import static io.ballerina.lib.mongodb.Utils.createError;
+
+/**
+ * Native methods related to the Ballerina MongoDB prepared query.
+ *
+ * @since 5.2.5
+ */
+public final class PreparedQuery {
+
+    private static final String PREPARED_FILTER = "mongo.native.query.filter";
+    private static final String PREPARED_UPDATE = "mongo.native.query.update";
+    private static final String PREPARED_SORT = "mongo.native.query.sort";
+    private static final String PREPARED_PROJECTION = "mongo.native.query.projection";
+
+    private static final BString FILTER = StringUtils.fromString("filter");
+    private static final BString UPDATE = StringUtils.fromString("update");
+    private static final BString SORT = StringUtils.fromString("sort");
+    private static final BString PROJECTION = StringUtils.fromString("projection");
+
+    private PreparedQuery() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BError prepareQuery(BObject query, BMap<BString, Object> config) {
+        try {
+            query.addNativeData(PREPARED_FILTER, BsonTemplate.of((BMap<BString, Object>) config.getMapValue(FILTER)));
+            if (config.containsKey(UPDATE)) {
+                BMap<BString, Object> update = (BMap<BString, Object>) config.getMapValue(UPDATE);
+                query.addNativeData(PREPARED_UPDATE, BsonTemplate.of(Collection.getUpdateOperators(update)));
+            }
+            if (config.containsKey(SORT)) {
+                query.addNativeData(PREPARED_SORT, BsonTemplate.of((BMap<BString, Object>) config.getMapValue(SORT)));
+            }
+            if (config.containsKey(PROJECTION)) {
+                query.addNativeData(PREPARED_PROJECTION,
+                        BsonTemplate.of((BMap<BString, Object>) config.getMapValue(PROJECTION)));
+            }
+            return null;
+        } catch (Exception e) {
+            return createError(ErrorType.APPLICATION_ERROR, e.getMessage());
+        }
+    }
+
+    static Bson bindFilter(BObject query, BMap<BString, Object> parameterValues) {
+        return ((BsonTemplate) query.getNativeData(PREPARED_FILTER)).bind(parameterValues);
+    }
+
+    static Bson bindUpdate(BObject query, BMap<BString, Object> parameterValues) {
+        BsonTemplate update = (BsonTemplate) query.getNativeData(PREPARED_UPDATE);
+        if (update == null) {
+            throw createError(ErrorType.APPLICATION_ERROR, "The prepared query does not have an update.");
+        }
+        return update.bind(parameterValues);
+    }
+
+    /**
+     * Binds the sort of the given prepared query to the given parameter values.
+     *
+     * @param query The Ballerina prepared query object
+     * @param parameterValues The values of the parameters by their names
+     * @param defaultSort The sort to use if the prepared query does not have a sort
+     * @return The sort
+     */
+    static Bson bindSort(BObject query, BMap<BString, Object> parameterValues, Bson defaultSort) {
+        BsonTemplate sort = (BsonTemplate) query.getNativeData(PREPARED_SORT);
+        return sort == null ? defaultSort : sort.bind(parameterValues);
+    }
+
+    /**
+     * Binds the projection of the given prepared query to the given parameter values.
+     *
+     * @param query The Ballerina prepared query object
+     * @param parameterValues The values of the parameters by their names
+     * @return The projection, or <code>null</code> if the projection is derived from the target type
+     */
+    static Bson bindProjection(BObject query, BMap<BString, Object> parameterValues) {
+        BsonTemplate projection = (BsonTemplate) query.getNativeData(PREPARED_PROJECTION);
+        return projection == null ? null : projection.bind(parameterValues);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.Tag;
+import com.mongodb.TagSet;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The read preference, read concern and write concern overriding the settings of the client for a database, a
+ * collection or a single operation. The driver collections derived for the overrides of the operations are cached in
+ * the Ballerina collection object, so that the operations with the same overrides share the same driver collection.
+ *
+ * @param readPreference The read preference, or <code>null</code> if not overridden
+ * @param readConcern The read concern, or <code>null</code> if not overridden
+ * @param writeConcern The write concern, or <code>null</code> if not overridden
+ * @since 5.2.5
+ */
+record ReadWriteConcerns(ReadPreference readPreference, ReadConcern readConcern, WriteConcern writeConcern) {
+
+    private static final String DERIVED_COLLECTIONS_SUFFIX = ".derived";
+    // The overrides are usually a handful of constants, hence the cache is cleared instead of evicting entries
+    private static final int MAX_DERIVED_COLLECTIONS = 64;
+
+    private static final BString READ_PREFERENCE = StringUtils.fromString("readPreference");
+    private static final BString READ_CONCERN = StringUtils.fromString("readConcern");
+    private static final BString WRITE_CONCERN = StringUtils.fromString("writeConcern");
+    private static final BString MODE = StringUtils.fromString("mode");
+    private static final BString TAG_SETS = StringUtils.fromString("tagSets");
+    private static final BString MAX_STALENESS_SECONDS = StringUtils.fromString("maxStalenessSeconds");
+
+    private static final Map<String, ReadPreference> READ_PREFERENCES = new ConcurrentHashMap<>();
+    private static final Map<String, ReadConcern> READ_CONCERNS = new ConcurrentHashMap<>();
+    private static final Map<String, WriteConcern> WRITE_CONCERNS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the overrides of the given options.
+     *
+     * @param options The Ballerina options record, or <code>null</code>
+     * @return The overrides, or <code>null</code> if the options do not override any of the settings
+     */
+    static ReadWriteConcerns of(BMap<BString, Object> options) {
+        if (options == null) {
+            return null;
+        }
+        Object readPreference = options.get(READ_PREFERENCE);
+        Object readConcern = options.get(READ_CONCERN);
+        Object writeConcern = options.get(WRITE_CONCERN);
+        if (readPreference == null && readConcern == null && writeConcern == null) {
+            return null;
+        }
+        return new ReadWriteConcerns(getReadPreference(readPreference), getReadConcern(readConcern),
+                getWriteConcern(writeConcern));
+    }
+
+    /**
+     * Initializes the cache of the derived collections of the given Ballerina collection object.
+     *
+     * @param collection The Ballerina collection object
+     * @param nativeDataKey The native data key of the driver collection
+     */
+    static void initDerivedCollections(BObject collection, String nativeDataKey) {
+        collection.addNativeData(nativeDataKey + DERIVED_COLLECTIONS_SUFFIX, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns the driver collection of the given Ballerina collection object with the overrides of the given
+     * operation options applied.
+     *
+     * @param collection The Ballerina collection object
+     * @param nativeDataKey The native data key of the driver collection
+     * @param options The options of the operation, or <code>null</code> if the operation does not have options
+     * @return The driver collection
+     */
+    @SuppressWarnings("unchecked")
+    static <T> MongoCollection<T> getCollection(BObject collection, String nativeDataKey,
+                                                BMap<BString, Object> options) {
+        MongoCollection<T> mongoCollection = (MongoCollection<T>) collection.getNativeData(nativeDataKey);
+        ReadWriteConcerns concerns = of(options);
+        if (concerns == null) {
+            return mongoCollection;
+        }
+        Map<ReadWriteConcerns, MongoCollection<T>> derivedCollections = (Map<ReadWriteConcerns, MongoCollection<T>>)
+                collection.getNativeData(nativeDataKey + DERIVED_COLLECTIONS_SUFFIX);
+        MongoCollection<T> derivedCollection = derivedCollections.get(concerns);
+        if (derivedCollection == null) {
+            if (derivedCollections.size() >= MAX_DERIVED_COLLECTIONS) {
+                derivedCollections.clear();
+            }
+            derivedCollection = concerns.apply(mongoCollection);
+            derivedCollections.put(concerns, derivedCollection);
+        }
+        return derivedCollection;
+    }
+
+    MongoDatabase apply(MongoDatabase mongoDatabase) {
+        MongoDatabase result = mongoDatabase;
+        if (readPreference != null) {
+            result = result.withReadPreference(readPreference);
+        }
+        if (readConcern != null) {
+            result = result.withReadConcern(readConcern);
+        }
+        if (writeConcern != null) {
+            result = result.withWriteConcern(writeConcern);
+        }
+        return result;
+    }
+
+    <T> MongoCollection<T> apply(MongoCollection<T> mongoCollection) {
+        MongoCollection<T> result = mongoCollection;
+        if (readPreference != null) {
+            result = result.withReadPreference(readPreference);
+        }
+        if (readConcern != null) {
+            result = result.withReadConcern(readConcern);
+        }
+        if (writeConcern != null) {
+            result = result.withWriteConcern(writeConcern);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ReadPreference getReadPreference(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BString mode) {
+            return READ_PREFERENCES.computeIfAbsent(mode.getValue(), ReadPreference::valueOf);
+        }
+        BMap<BString, Object> config = (BMap<BString, Object>) value;
+        String mode = config.getStringValue(MODE).getValue();
+        BArray tagSets = config.getArrayValue(TAG_SETS);
+        if (tagSets.size() == 0 && !config.containsKey(MAX_STALENESS_SECONDS)) {
+            return READ_PREFERENCES.computeIfAbsent(mode, ReadPreference::valueOf);
+        }
+        List<TagSet> tagSetList = new ArrayList<>(tagSets.size());
+        for (int i = 0; i < tagSets.size(); i++) {
+            BMap<BString, Object> tagSet = (BMap<BString, Object>) tagSets.get(i);
+            List<Tag> tags = new ArrayList<>(tagSet.size());
+            for (Map.Entry<BString, Object> tag : tagSet.entrySet()) {
+                tags.add(new Tag(tag.getKey().getValue(), tag.getValue().toString()));
+            }
+            tagSetList.add(new TagSet(tags));
+        }
+        if (config.containsKey(MAX_STALENESS_SECONDS)) {
+            return ReadPreference.valueOf(mode, tagSetList, config.getIntValue(MAX_STALENESS_SECONDS),
+                    TimeUnit.SECONDS);
+        }
+        return ReadPreference.valueOf(mode, tagSetList);
+    }
+
+    private static ReadConcern getReadConcern(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return READ_CONCERNS.computeIfAbsent(((BString) value).getValue(),
+                level -> new ReadConcern(ReadConcernLevel.fromString(level)));
+    }
+
+    private static WriteConcern getWriteConcern(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Long w) {
+            return new WriteConcern(w.intValue());
+        }
+        return WRITE_CONCERNS.computeIfAbsent(((BString) value).getValue(), WriteConcern::new);
+    }
+}
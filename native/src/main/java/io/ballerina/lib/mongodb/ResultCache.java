@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.ballerina.lib.mongodb.BMapCodec.toBson;
+
+/**
+ * Opt-in cache of the results of the find, findOne and countDocuments operations of a collection. The documents are
+ * kept as raw BSON, hence the cache is bounded by the bytes of the documents as well as the number of results, and the
+ * cached documents are converted to the target type on each hit the same as the documents read from the server. The
+ * least recently used results are evicted first, and the results expire after the TTL.
+ * <p>
+ * The writes issued through the collections of the same client increment the write version of the namespace, which
+ * invalidates the cached results of the namespace. The version is read before a query is sent and the result is only
+ * cached if no write completed in the meantime, hence a result which does not reflect a completed write is never
+ * returned from the cache. The aggregations ending with an <code>$out</code> or a <code>$merge</code> stage are
+ * writes to their output collection, and invalidate it as well.
+ *
+ * @since 5.2.5
+ */
+public final class ResultCache {
+
+    static final String RESULT_CACHE = "mongo.native.collection.result.cache";
+    static final String WRITE_VERSION = "mongo.native.collection.write.version";
+    static final String WRITE_VERSIONS = "mongo.native.client.write.versions";
+
+    private static final BString RESULT_CACHE_KEY = StringUtils.fromString("resultCache");
+    private static final BString MAX_ENTRIES = StringUtils.fromString("maxEntries");
+    private static final BString MAX_BYTES = StringUtils.fromString("maxBytes");
+    private static final BString TTL = StringUtils.fromString("ttl");
+    private static final BString HITS = StringUtils.fromString("hits");
+    private static final BString MISSES = StringUtils.fromString("misses");
+    private static final BString EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString EXPIRATIONS = StringUtils.fromString("expirations");
+    private static final BString INVALIDATIONS = StringUtils.fromString("invalidations");
+    private static final BString ENTRIES = StringUtils.fromString("entries");
+    private static final BString BYTES = StringUtils.fromString("bytes");
+    private static final String RESULT_CACHE_STATS_TYPE = "ResultCacheStats";
+    private static final String OUT_STAGE = "$out";
+    private static final String MERGE_STAGE = "$merge";
+    private static final String INTO = "into";
+    private static final String DB = "db";
+    private static final String COLL = "coll";
+    // The approximate size of an entry without the documents, so that the empty results are also bounded by bytes
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final Config config;
+    private final AtomicLong writeVersion;
+    // Ordered by access, hence the first entry is the least recently used one
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long version;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    private ResultCache(Config config, AtomicLong writeVersion) {
+        this.config = config;
+        this.writeVersion = writeVersion;
+        this.version = writeVersion.get();
+    }
+
+    /**
+     * Initializes the write versions of the namespaces of the given Ballerina client.
+     *
+     * @param client The Ballerina client object
+     */
+    static void initWriteVersions(BObject client) {
+        client.addNativeData(WRITE_VERSIONS, new ConcurrentHashMap<String, AtomicLong>());
+    }
+
+    /**
+     * Shares the write versions of the given Ballerina client with the given session, so that the transactions of
+     * the session invalidate the cached results of the client.
+     *
+     * @param session The Ballerina session object
+     * @param client The Ballerina client object of the session
+     */
+    static void initWriteVersions(BObject session, BObject client) {
+        session.addNativeData(WRITE_VERSIONS, client.getNativeData(WRITE_VERSIONS));
+    }
+
+    /**
+     * Initializes the write version of the given Ballerina collection, and its result cache if it is enabled in the
+     * given options.
+     *
+     * @param collection The Ballerina collection object
+     * @param client The Ballerina client object of the collection
+     * @param namespace The full name of the collection (i.e. <code>database.collection</code>)
+     * @param options The options of the collection
+     */
+    @SuppressWarnings("unchecked")
+    static void init(BObject collection, BObject client, String namespace, BMap<BString, Object> options) {
+        Map<String, AtomicLong> writeVersions = (Map<String, AtomicLong>) client.getNativeData(WRITE_VERSIONS);
+        AtomicLong writeVersion = writeVersions.computeIfAbsent(namespace, key -> new AtomicLong());
+        collection.addNativeData(WRITE_VERSION, writeVersion);
+        Config config = Config.of(options);
+        if (config != null) {
+            config.validate();
+            collection.addNativeData(RESULT_CACHE, new ResultCache(config, writeVersion));
+        }
+    }
+
+    /**
+     * Returns the result cache of the given Ballerina collection. The results are not cached in sessions, as they are
+     * used for transactions and causally consistent reads.
+     *
+     * @param collection The Ballerina collection object
+     * @param session The Ballerina session object, or <code>null</code>
+     * @return The result cache, or <code>null</code> if the result cache is not enabled or a session is used
+     */
+    static ResultCache get(BObject collection, Object session) {
+        return session == null ? (ResultCache) collection.getNativeData(RESULT_CACHE) : null;
+    }
+
+    /**
+     * Invalidates the cached results of the namespace of the given Ballerina collection. Called after each write
+     * through the collection, regardless of its outcome, as a failed write may have partially completed.
+     *
+     * @param collection The Ballerina collection object
+     */
+    static void invalidate(BObject collection) {
+        ((AtomicLong) collection.getNativeData(WRITE_VERSION)).incrementAndGet();
+    }
+
+    /**
+     * Invalidates the cached results of the namespaces starting with the given prefix. Called after dropping a
+     * database, and after committing or aborting a transaction as the writes of a transaction are only visible
+     * outside the transaction after it is committed.
+     *
+     * @param owner The Ballerina client or session object
+     * @param namespacePrefix The prefix of the invalidated namespaces, or an empty string to invalidate all of them
+     */
+    @SuppressWarnings("unchecked")
+    static void invalidateAll(BObject owner, String namespacePrefix) {
+        Map<String, AtomicLong> writeVersions = (Map<String, AtomicLong>) owner.getNativeData(WRITE_VERSIONS);
+        for (Map.Entry<String, AtomicLong> entry : writeVersions.entrySet()) {
+            if (entry.getKey().startsWith(namespacePrefix)) {
+                entry.getValue().incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Invalidates the cached results of the output collection of the given aggregation pipeline of the given Ballerina
+     * collection, if the pipeline ends with an <code>$out</code> or a <code>$merge</code> stage. All the namespaces of
+     * the client are invalidated if the output collection cannot be determined.
+     *
+     * @param collection The Ballerina collection object
+     * @param pipeline The stages of the aggregation pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static void invalidateOutput(BObject collection, List<Bson> pipeline) {
+        BsonDocument stage = Utils.getOutputStage(pipeline);
+        if (stage == null) {
+            return;
+        }
+        BObject client = (BObject) ((BObject) collection.getNativeData(HandleCache.PARENT_DATABASE))
+                .getNativeData(HandleCache.PARENT_CLIENT);
+        MongoCollection<?> mongoCollection = (MongoCollection<?>) collection.getNativeData(Utils.MONGO_COLLECTION);
+        String namespace = getOutputNamespace(stage, mongoCollection.getNamespace().getDatabaseName());
+        if (namespace == null) {
+            invalidateAll(client, "");
+            return;
+        }
+        AtomicLong writeVersion = ((Map<String, AtomicLong>) client.getNativeData(WRITE_VERSIONS)).get(namespace);
+        if (writeVersion != null) {
+            writeVersion.incrementAndGet();
+        }
+    }
+
+    private static String getOutputNamespace(BsonDocument stage, String databaseName) {
+        BsonValue target = stage.containsKey(OUT_STAGE) ? stage.get(OUT_STAGE) : stage.get(MERGE_STAGE);
+        if (target.isDocument() && stage.containsKey(MERGE_STAGE)) {
+            target = target.asDocument().get(INTO);
+        }
+        if (target == null) {
+            return null;
+        }
+        if (target.isString()) {
+            return databaseName + "." + target.asString().getValue();
+        }
+        if (target.isDocument()) {
+            BsonDocument document = target.asDocument();
+            BsonValue database = document.get(DB);
+            BsonValue coll = document.get(COLL);
+            if (coll != null && coll.isString() && (database == null || database.isString())) {
+                return (database == null ? databaseName : database.asString().getValue()) + "." +
+                        coll.asString().getValue();
+            }
+        }
+        return null;
+    }
+
+    public static Object getResultCacheStats(BObject collection) {
+        ResultCache resultCache = (ResultCache) collection.getNativeData(RESULT_CACHE);
+        return resultCache == null ? null : resultCache.getStats();
+    }
+
+    /**
+     * Returns the current write version of the namespace, which must be read before sending the query of a result
+     * to be cached.
+     *
+     * @return The write version
+     */
+    long getWriteVersion() {
+        return writeVersion.get();
+    }
+
+    /**
+     * Returns the cached result of the given key.
+     *
+     * @param key The key of the result
+     * @return The cached result, or <code>null</code> if the result is not cached
+     */
+    synchronized Object get(Key key) {
+        invalidateIfWritten();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+            remove(key, entry);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.result;
+    }
+
+    /**
+     * Caches the given result, unless a write completed since the given write version was read.
+     *
+     * @param key The key of the result
+     * @param result The documents of a find or findOne operation, or the count of a countDocuments operation
+     * @param documentBytes The size of the documents in bytes
+     * @param loadVersion The write version read before sending the query
+     */
+    synchronized void put(Key key, Object result, long documentBytes, long loadVersion) {
+        invalidateIfWritten();
+        long entryBytes = documentBytes + ENTRY_OVERHEAD_BYTES;
+        if (loadVersion != version || entryBytes > config.maxBytes()) {
+            return;
+        }
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= previous.bytes;
+        }
+        entries.put(key, new Entry(result, entryBytes, System.nanoTime() + config.ttlNanos()));
+        bytes += entryBytes;
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > config.maxEntries() || bytes > config.maxBytes()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            bytes -= eldest.getValue().bytes;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Wraps the given cursor to cache its documents once it is exhausted. The documents are not cached if the cursor
+     * is closed before it is exhausted or the documents exceed the size of the cache.
+     *
+     * @param key The key of the result
+     * @param loadVersion The write version read before sending the query
+     * @param cursor The cursor of the query
+     * @return The cursor recording the documents
+     */
+    MongoCursor<RawBsonDocument> record(Key key, long loadVersion, MongoCursor<RawBsonDocument> cursor) {
+        return new RecordingCursor(this, key, loadVersion, cursor);
+    }
+
+    /**
+     * Returns a cursor of the given cached documents.
+     *
+     * @param documents The cached documents
+     * @return The cursor
+     */
+    static MongoCursor<RawBsonDocument> replay(List<RawBsonDocument> documents) {
+        return new ReplayCursor(documents);
+    }
+
+    static long getBytes(RawBsonDocument document) {
+        return document == null ? 0 : document.getByteBuffer().remaining();
+    }
+
+    private void invalidateIfWritten() {
+        long currentVersion = writeVersion.get();
+        if (currentVersion != version) {
+            invalidations += entries.size();
+            entries.clear();
+            bytes = 0;
+            version = currentVersion;
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        bytes -= entry.bytes;
+    }
+
+    private synchronized BMap<BString, Object> getStats() {
+        invalidateIfWritten();
+        BMap<BString, Object> stats = ModuleUtils.createRecordValue(RESULT_CACHE_STATS_TYPE);
+        stats.put(HITS, hits);
+        stats.put(MISSES, misses);
+        stats.put(EVICTIONS, evictions);
+        stats.put(EXPIRATIONS, expirations);
+        stats.put(INVALIDATIONS, invalidations);
+        stats.put(ENTRIES, (long) entries.size());
+        stats.put(BYTES, bytes);
+        return stats;
+    }
+
+    /**
+     * The operations of which the results are cached.
+     */
+    enum Operation {
+        FIND,
+        FIND_ONE,
+        COUNT_DOCUMENTS
+    }
+
+    /**
+     * The key of a cached result. The query documents are compared by their BSON values, hence the filters written
+     * in the same way share the same result regardless of how they are created.
+     *
+     * @param operation The operation of the result
+     * @param targetType The type of the returned documents, or <code>null</code> for the count
+     * @param filter The filter of the query
+     * @param sort The sort of the query, or <code>null</code>
+     * @param projection The projection of the query, or <code>null</code>
+     * @param options The options of the operation
+     */
+    record Key(Operation operation, Type targetType, BsonDocument filter, BsonDocument sort, BsonDocument projection,
+               BsonDocument options) {
+
+        static Key of(Operation operation, Type targetType, Bson filter, Bson sort, Bson projection,
+                      BMap<BString, Object> options) {
+            return new Key(operation, targetType, toDocument(filter), toDocument(sort), toDocument(projection),
+                    toDocument(toBson(options)));
+        }
+
+        private static BsonDocument toDocument(Bson bson) {
+            return bson == null ? null : bson.toBsonDocument(BsonDocument.class, BMapCodec.CODEC_REGISTRY);
+        }
+    }
+
+    private record Entry(Object result, long bytes, long expiresAt) {
+    }
+
+    /**
+     * The configurations of the result cache.
+     *
+     * @param maxEntries The maximum number of cached results
+     * @param maxBytes The maximum size of the cached results in bytes
+     * @param ttlNanos The time to keep a result in nanoseconds
+     */
+    record Config(long maxEntries, long maxBytes, long ttlNanos) {
+
+        @SuppressWarnings("unchecked")
+        static Config of(BMap<BString, Object> options) {
+            BMap<BString, Object> config = (BMap<BString, Object>) options.getMapValue(RESULT_CACHE_KEY);
+            if (config == null) {
+                return null;
+            }
+            double ttl = ((BDecimal) config.get(TTL)).floatValue();
+            return new Config(config.getIntValue(MAX_ENTRIES), config.getIntValue(MAX_BYTES),
+                    (long) (ttl * TimeUnit.SECONDS.toNanos(1)));
+        }
+
+        private void validate() {
+            if (maxEntries <= 0 || maxBytes <= 0 || ttlNanos <= 0) {
+                throw Utils.createError(ErrorType.APPLICATION_ERROR,
+                        "The maximum entries, the maximum bytes and the TTL of the result cache must be positive.");
+            }
+        }
+    }
+
+    private static final class RecordingCursor implements MongoCursor<RawBsonDocument> {
+
+        private final ResultCache resultCache;
+        private final Key key;
+        private final long loadVersion;
+        private final MongoCursor<RawBsonDocument> cursor;
+        private List<RawBsonDocument> documents = new ArrayList<>();
+        private long documentBytes;
+
+        private RecordingCursor(ResultCache resultCache, Key key, long loadVersion,
+                                MongoCursor<RawBsonDocument> cursor) {
+            this.resultCache = resultCache;
+            this.key = key;
+            this.loadVersion = loadVersion;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = cursor.hasNext();
+            if (!hasNext && documents != null) {
+                resultCache.put(key, List.copyOf(documents), documentBytes, loadVersion);
+                documents = null;
+            }
+            return hasNext;
+        }
+
+        @Override
+        public RawBsonDocument next() {
+            return record(cursor.next());
+        }
+
+        @Override
+        public RawBsonDocument tryNext() {
+            return record(cursor.tryNext());
+        }
+
+        @Override
+        public int available() {
+            return cursor.available();
+        }
+
+        @Override
+        public void close() {
+            documents = null;
+            cursor.close();
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return cursor.getServerCursor();
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return cursor.getServerAddress();
+        }
+
+        private RawBsonDocument record(RawBsonDocument document) {
+            if (document != null && documents != null) {
+                documentBytes += getBytes(document);
+                if (documentBytes > resultCache.config.maxBytes()) {
+                    // The result would not fit into the cache, hence the documents are not kept
+                    documents = null;
+                } else {
+                    documents.add(document);
+                }
+            }
+            return document;
+        }
+    }
+
+    private static final class ReplayCursor implements MongoCursor<RawBsonDocument> {
+
+        private final List<RawBsonDocument> documents;
+        private int position;
+
+        private ReplayCursor(List<RawBsonDocument> documents) {
+            this.documents = documents;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < documents.size();
+        }
+
+        @Override
+        public RawBsonDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return documents.get(position++);
+        }
+
+        @Override
+        public RawBsonDocument tryNext() {
+            return hasNext() ? documents.get(position++) : null;
+        }
+
+        @Override
+        public int available() {
+            return documents.size() - position;
+        }
+
+        @Override
+        public void close() {
+            position = documents.size();
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return null;
+        }
+    }
+}
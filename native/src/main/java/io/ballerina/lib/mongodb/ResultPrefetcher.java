@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.client.MongoCursor;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the documents of a cursor ahead of the consumer in a background virtual thread. The documents are converted to
+ * the target type in the background as well, so that the fetching of the next batches from the server and the
+ * conversion overlap with the processing of the already converted values. At most the configured number of converted
+ * values are held in memory at a time.
+ * <p>
+ * The background thread is never interrupted, as interrupting the driver during socket I/O discards the pooled
+ * connection. Instead, it checks whether the consumer closed the stream while waiting for room in the queue, and
+ * closes the cursor when it exits. A stream which is dropped without closing it is closed when it is garbage
+ * collected.
+ *
+ * @since 5.2.5
+ */
+final class ResultPrefetcher {
+
+    private static final Object END_OF_RESULTS = new Object();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final Worker worker;
+    private final Cleaner.Cleanable cleanable;
+    private boolean completed;
+
+    ResultPrefetcher(MongoCursor<?> cursor, Type valueType, Type completionType, int prefetchSize) {
+        this.worker = new Worker(cursor, valueType, completionType, new ArrayBlockingQueue<>(prefetchSize));
+        // The worker does not refer to the prefetcher, hence the prefetcher is collected once the stream is dropped
+        this.cleanable = CLEANER.register(this, worker::stop);
+        Thread.ofVirtual().name("mongodb-result-prefetcher").start(worker);
+    }
+
+    /**
+     * Returns the next converted value, waiting for the background thread if it is not available yet. An error is the
+     * last value of the stream.
+     *
+     * @return The next value, an error if the value could not be retrieved or converted, or null if there are no more
+     * values
+     */
+    Object next() {
+        if (completed) {
+            return null;
+        }
+        try {
+            return complete(worker.queue.take());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Utils.createError(ErrorType.APPLICATION_ERROR, "Interrupted while waiting for the next result");
+        }
+    }
+
+    /**
+     * Returns the next converted value if it is already available, without waiting for the background thread.
+     *
+     * @return The next value, an error if the value could not be retrieved or converted, or null if there is no
+     * value available
+     */
+    Object poll() {
+        if (completed) {
+            return null;
+        }
+        Object next = worker.queue.poll();
+        return next == null ? null : complete(next);
+    }
+
+    void close() {
+        completed = true;
+        cleanable.clean();
+        worker.queue.clear();
+    }
+
+    private Object complete(Object next) {
+        if (next == END_OF_RESULTS) {
+            completed = true;
+            return null;
+        }
+        if (next instanceof BError) {
+            // The background thread stops after an error, hence no more values follow it
+            completed = true;
+        }
+        return next;
+    }
+
+    private static final class Worker implements Runnable {
+
+        private final MongoCursor<?> cursor;
+        private final Type valueType;
+        private final Type completionType;
+        private final BlockingQueue<Object> queue;
+        private volatile boolean stopped;
+
+        private Worker(MongoCursor<?> cursor, Type valueType, Type completionType, BlockingQueue<Object> queue) {
+            this.cursor = cursor;
+            this.valueType = valueType;
+            this.completionType = completionType;
+            this.queue = queue;
+        }
+
+        private void stop() {
+            stopped = true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!stopped && cursor.hasNext()) {
+                    Object value = IteratorUtils.convertNext(cursor.next(), valueType, completionType);
+                    if (!offer(value) || value instanceof BError) {
+                        return;
+                    }
+                }
+                offer(END_OF_RESULTS);
+            } catch (Exception e) {
+                offer(Utils.createError(ErrorType.DATABASE_ERROR, e.getMessage()));
+            } finally {
+                closeCursor();
+            }
+        }
+
+        /**
+         * Adds the given value to the queue, waiting for room until the consumer closes the stream.
+         *
+         * @param value The value to add
+         * @return Whether the value was added
+         */
+        private boolean offer(Object value) {
+            try {
+                while (!stopped) {
+                    if (queue.offer(value, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        private void closeCursor() {
+            try {
+                cursor.close();
+            } catch (RuntimeException e) {
+                // The stream is already completed, hence the failure to release the server cursor is not reported
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.TransactionOptions;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.lib.mongodb.Utils.MONGO_CLIENT;
+import static io.ballerina.lib.mongodb.Utils.createDatabaseError;
+import static io.ballerina.lib.mongodb.Utils.createError;
+
+/**
+ * Native methods related to the Ballerina MongoDB client session.
+ *
+ * @since 5.2.5
+ */
+public final class Session {
+
+    static final String MONGO_SESSION = "mongo.native.session";
+
+    private static final BString CAUSALLY_CONSISTENT = StringUtils.fromString("causallyConsistent");
+    private static final BString DEFAULT_TRANSACTION_OPTIONS = StringUtils.fromString("defaultTransactionOptions");
+    private static final BString READ_CONCERN = StringUtils.fromString("readConcern");
+    private static final BString WRITE_CONCERN = StringUtils.fromString("writeConcern");
+    private static final BString READ_PREFERENCE = StringUtils.fromString("readPreference");
+    private static final BString MAX_COMMIT_TIME_MS = StringUtils.fromString("maxCommitTimeMS");
+
+    private Session() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BError initSession(Environment env, BObject session, BObject client, BMap<BString, Object> options) {
+        return env.yieldAndRun(() -> {
+            try {
+                MongoClient mongoClient = (MongoClient) client.getNativeData(MONGO_CLIENT);
+                ClientSessionOptions.Builder sessionOptions = ClientSessionOptions.builder()
+                        .causallyConsistent(options.getBooleanValue(CAUSALLY_CONSISTENT));
+                if (options.containsKey(DEFAULT_TRANSACTION_OPTIONS)) {
+                    sessionOptions.defaultTransactionOptions(getTransactionOptions(
+                            (BMap<BString, Object>) options.getMapValue(DEFAULT_TRANSACTION_OPTIONS)));
+                }
+                session.addNativeData(MONGO_SESSION, mongoClient.startSession(sessionOptions.build()));
+                ResultCache.initWriteVersions(session, client);
+                return null;
+            } catch (Exception e) {
+                return createError(e, "Error occurred while starting the session.");
+            }
+        });
+    }
+
+    public static BError startTransaction(BObject session, BMap<BString, Object> options) {
+        try {
+            getClientSession(session).startTransaction(getTransactionOptions(options));
+            return null;
+        } catch (Exception e) {
+            return createError(ErrorType.APPLICATION_ERROR, e.getMessage());
+        }
+    }
+
+    public static BError commitTransaction(Environment env, BObject session) {
+        return env.yieldAndRun(() -> {
+            try {
+                getClientSession(session).commitTransaction();
+                return null;
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidateAll(session, "");
+            }
+        });
+    }
+
+    public static BError abortTransaction(Environment env, BObject session) {
+        return env.yieldAndRun(() -> {
+            try {
+                getClientSession(session).abortTransaction();
+                return null;
+            } catch (Exception e) {
+                return createDatabaseError(e);
+            } finally {
+                ResultCache.invalidateAll(session, "");
+            }
+        });
+    }
+
+    public static boolean hasActiveTransaction(BObject session) {
+        return getClientSession(session).hasActiveTransaction();
+    }
+
+    public static BError close(Environment env, BObject session) {
+        return env.yieldAndRun(() -> {
+            try {
+                getClientSession(session).close();
+                return null;
+            } catch (Exception e) {
+                return createError(e, "Error occurred while closing the session.");
+            }
+        });
+    }
+
+    /**
+     * Returns the driver session of the given optional Ballerina session.
+     *
+     * @param session The Ballerina session object, or <code>null</code> if the operation does not use a session
+     * @return The driver session, or <code>null</code> if the operation does not use a session
+     */
+    static ClientSession getClientSession(Object session) {
+        if (session == null) {
+            return null;
+        }
+        return (ClientSession) ((BObject) session).getNativeData(MONGO_SESSION);
+    }
+
+    private static TransactionOptions getTransactionOptions(BMap<BString, Object> options) {
+        TransactionOptions.Builder transactionOptions = TransactionOptions.builder();
+        if (options.containsKey(READ_CONCERN)) {
+            String readConcern = options.getStringValue(READ_CONCERN).getValue();
+            transactionOptions.readConcern(new ReadConcern(ReadConcernLevel.fromString(readConcern)));
+        }
+        if (options.containsKey(WRITE_CONCERN)) {
+            transactionOptions.writeConcern(new WriteConcern(options.getStringValue(WRITE_CONCERN).getValue()));
+        }
+        if (options.containsKey(READ_PREFERENCE)) {
+            String readPreference = options.getStringValue(READ_PREFERENCE).getValue();
+            transactionOptions.readPreference(ReadPreference.valueOf(readPreference));
+        }
+        if (options.containsKey(MAX_COMMIT_TIME_MS)) {
+            transactionOptions.maxCommitTime(options.getIntValue(MAX_COMMIT_TIME_MS), TimeUnit.MILLISECONDS);
+        }
+        return transactionOptions.build();
+    }
+}
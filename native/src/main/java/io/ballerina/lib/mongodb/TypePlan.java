@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.mongodb;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the values derived from a target type of a query, so that they are computed once per type instead of once per
+ * operation or per document. The projection documents are encoded to BSON once as well. The plans are cached in a
+ * bounded cache, since the types created at runtime do not have a fixed number of instances.
+ *
+ * @since 5.2.5
+ */
+final class TypePlan {
+
+    static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<Type, TypePlan> CACHE = new ConcurrentHashMap<>();
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+    private static final String PROJECT_FIELD = "$project";
+
+    private final Type type;
+    private final UnionType valueType;
+    private volatile RawBsonDocument projection;
+    private volatile RawBsonDocument projectionStage;
+
+    private TypePlan(Type type) {
+        this.type = type;
+        this.valueType = IteratorUtils.createValueType(type);
+    }
+
+    /**
+     * Returns the plan of the given type, creating it if it is not cached.
+     *
+     * @param type The target type
+     * @return The plan of the type
+     */
+    static TypePlan of(Type type) {
+        TypePlan plan = CACHE.get(type);
+        if (plan != null) {
+            return plan;
+        }
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            evict();
+        }
+        return CACHE.computeIfAbsent(type, TypePlan::new);
+    }
+
+    /**
+     * Returns the type of the values returned by the result iterator, i.e. the union of the target type, error and
+     * nil.
+     *
+     * @return The value type
+     */
+    UnionType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Returns the projection document generated from the fields of the type.
+     *
+     * @return The projection document
+     */
+    RawBsonDocument getProjection() {
+        RawBsonDocument document = projection;
+        if (document == null) {
+            // Concurrent callers may compute the same document, which is harmless
+            document = encode(Utils.getProjectionDocument(new Document(), type, "", null));
+            projection = document;
+        }
+        return document;
+    }
+
+    /**
+     * Returns the `$project` aggregation stage generated from the fields of the type.
+     *
+     * @return The projection stage
+     */
+    RawBsonDocument getProjectionStage() {
+        RawBsonDocument document = projectionStage;
+        if (document == null) {
+            document = encode(new Document(PROJECT_FIELD, getProjection()));
+            projectionStage = document;
+        }
+        return document;
+    }
+
+    private static RawBsonDocument encode(Document document) {
+        return new RawBsonDocument(document, DOCUMENT_CODEC);
+    }
+
+    private static void evict() {
+        // The cache does not track the usage, hence an arbitrary entry is evicted
+        Iterator<Type> iterator = CACHE.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -27,7 +27,6 @@ import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
-import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.StreamType;
 import io.ballerina.runtime.api.types.Type;
@@ -42,7 +41,9 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -63,12 +64,20 @@ public final class Utils {
 
     static final String RESULT_ITERATOR_OBJECT_NAME = "ResultIterator";
     static final String MONGO_CURSOR = "mongo.cursor";
+    static final String STREAM_VALUE_TYPE = "mongo.stream.value.type";
+    static final String STREAM_BATCH_TYPE = "mongo.stream.batch.type";
+    static final String STREAM_MAX_BATCH_SIZE = "mongo.stream.max.batch.size";
+    static final String STREAM_PENDING_ERROR = "mongo.stream.pending.error";
     static final String MONGO_CLIENT = "mongo.native.client";
     static final String MONGO_DATABASE = "mongo.native.database";
     static final String MONGO_COLLECTION = "mongo.native.collection";
+    static final String MONGO_BMAP_COLLECTION = "mongo.native.collection.bmap";
     static final String DATABASE_ERROR_DETAIL = "DatabaseErrorDetail";
+    private static final BString ERROR_LABELS = StringUtils.fromString("errorLabels");
     private static final String MONGO_ID_FIELD = "_id";
     private static final String PROJECT_FIELD = "$project";
+    private static final String OUT_STAGE = "$out";
+    private static final String MERGE_STAGE = "$merge";
 
     static final Map<Integer, Class> DISTINCT_TYPE_MAP = Map.of(
             TypeTags.STRING_TAG, String.class,
@@ -105,11 +114,26 @@ public final class Utils {
     }
 
     static BError createError(MongoCommandException e) {
-        BMap<BString, Object> details = ValueCreator.createRecordValue(ModuleUtils.getModule(), DATABASE_ERROR_DETAIL);
+        BMap<BString, Object> details = ModuleUtils.createRecordValue(DATABASE_ERROR_DETAIL);
         details.put(Client.RecordField.MONGODB_EXCEPTION_TYPE, StringUtils.fromString(e.getErrorCodeName()));
         return createError(ErrorType.DATABASE_ERROR, e.getErrorMessage(), null, details);
     }
 
+    static BError createDatabaseError(Exception e) {
+        if (!(e instanceof MongoException mongoException) || mongoException.getErrorLabels().isEmpty()) {
+            return createError(ErrorType.DATABASE_ERROR, e.getMessage());
+        }
+        // The error labels are needed to decide whether a transaction or a commit can be retried
+        String exceptionType = e instanceof MongoCommandException commandException ?
+                commandException.getErrorCodeName() : e.getClass().getSimpleName();
+        BArray errorLabels = ValueCreator.createArrayValue(StringUtils.fromStringArray(
+                mongoException.getErrorLabels().toArray(new String[0])));
+        BMap<BString, Object> details = ModuleUtils.createRecordValue(DATABASE_ERROR_DETAIL);
+        details.put(Client.RecordField.MONGODB_EXCEPTION_TYPE, StringUtils.fromString(exceptionType));
+        details.put(ERROR_LABELS, errorLabels);
+        return createError(ErrorType.DATABASE_ERROR, e.getMessage(), null, details);
+    }
+
     static BError createError(ErrorType errorType, String message) {
         return createError(errorType, message, null, null);
     }
@@ -129,11 +153,43 @@ public final class Utils {
     }
 
     static BStream createStream(BTypedesc targetType, MongoCursor cursor) {
+        return createStream(targetType, cursor, 0);
+    }
+
+    static BStream createStream(BTypedesc targetType, MongoCursor cursor, int prefetchSize) {
+        return createStream(targetType, cursor, prefetchSize, 0);
+    }
+
+    /**
+     * Creates a stream of the documents of the given cursor. If the maximum batch size is positive, the stream
+     * returns arrays of the documents which are available without another round trip to the server, up to the
+     * maximum batch size.
+     *
+     * @param targetType   The type of the documents
+     * @param cursor       The cursor to read the documents from
+     * @param prefetchSize The number of documents to read ahead in the background, or zero to read on demand
+     * @param maxBatchSize The maximum number of documents in an array, or zero to return documents one by one
+     * @return The stream of documents or arrays of documents
+     */
+    static BStream createStream(BTypedesc targetType, MongoCursor cursor, int prefetchSize, int maxBatchSize) {
+        Type documentType = targetType.getDescribingType();
+        UnionType valueType = TypePlan.of(documentType).getValueType();
         BObject resultIterator = ValueCreator.createObjectValue(getModule(), RESULT_ITERATOR_OBJECT_NAME);
-        resultIterator.addNativeData(MONGO_CURSOR, cursor);
-        resultIterator.addNativeData(STREAM_COMPLETION_TYPE, targetType.getDescribingType());
-        Type completionType = TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR, PredefinedTypes.TYPE_NULL);
-        StreamType streamType = TypeCreator.createStreamType(targetType.getDescribingType(), completionType);
+        if (prefetchSize > 0) {
+            resultIterator.addNativeData(MONGO_CURSOR,
+                    new ResultPrefetcher(cursor, valueType, documentType, prefetchSize));
+        } else {
+            resultIterator.addNativeData(MONGO_CURSOR, cursor);
+        }
+        resultIterator.addNativeData(STREAM_COMPLETION_TYPE, documentType);
+        resultIterator.addNativeData(STREAM_VALUE_TYPE, valueType);
+        Type streamValueType = documentType;
+        if (maxBatchSize > 0) {
+            streamValueType = TypeCreator.createArrayType(documentType);
+            resultIterator.addNativeData(STREAM_BATCH_TYPE, streamValueType);
+            resultIterator.addNativeData(STREAM_MAX_BATCH_SIZE, maxBatchSize);
+        }
+        StreamType streamType = TypeCreator.createStreamType(streamValueType, ModuleUtils.getStreamCompletionType());
         return ValueCreator.createStreamValue(streamType, resultIterator);
     }
 
@@ -144,34 +200,53 @@ public final class Utils {
         return DISTINCT_TYPE_MAP.get(TypeTags.RECORD_TYPE_TAG);
     }
 
-    static List<Document> getPipeline(BArray pipeline, Type targetType) {
-        List<Document> documents = new ArrayList<>();
+    @SuppressWarnings("unchecked")
+    static List<Bson> getPipeline(BArray pipeline, Type targetType) {
+        List<Bson> documents = new ArrayList<>();
         boolean projectionPresent = false;
         if (pipeline != null) {
             for (int i = 0; i < pipeline.size(); i++) {
-                if (pipeline.get(i) instanceof BMap) {
-                    BMap<BString, Object> stage = (BMap<BString, Object>) pipeline.get(i);
-                    if (stage.containsKey(StringUtils.fromString(PROJECT_FIELD))) {
-                        projectionPresent = true;
-                    }
+                BMap<BString, Object> stage = (BMap<BString, Object>) pipeline.get(i);
+                if (stage.containsKey(StringUtils.fromString(PROJECT_FIELD))) {
+                    projectionPresent = true;
                 }
-                documents.add(Document.parse(pipeline.get(i).toString()));
+                documents.add(BMapCodec.toBson(stage));
             }
         }
-        if (!projectionPresent) {
-            Document projection = new Document(PROJECT_FIELD, getProjectionDocument(new Document(), targetType, "",
-                    null));
-            documents.add(projection);
+        if (!projectionPresent && getOutputStage(documents) == null) {
+            documents.add(TypePlan.of(targetType).getProjectionStage());
         }
         return documents;
     }
 
-    static Document getProjection(Object projectionInput, BTypedesc targetType) {
-        if (projectionInput == null) {
-            return getProjectionDocument(new Document(), targetType.getDescribingType(), "", null);
-        } else {
-            return Document.parse(projectionInput.toString());
+    /**
+     * Returns the last stage of the given pipeline if it is an <code>$out</code> or a <code>$merge</code> stage. A
+     * projection stage must not be added after such a stage, and the output collection of the pipeline is written.
+     *
+     * @param pipeline The stages of the pipeline
+     * @return The output stage, or <code>null</code> if the pipeline does not write its results to a collection
+     */
+    static BsonDocument getOutputStage(List<Bson> pipeline) {
+        if (pipeline.isEmpty()) {
+            return null;
+        }
+        BsonDocument stage = pipeline.get(pipeline.size() - 1)
+                .toBsonDocument(BsonDocument.class, BMapCodec.CODEC_REGISTRY);
+        return stage.containsKey(OUT_STAGE) || stage.containsKey(MERGE_STAGE) ? stage : null;
+    }
+
+    /**
+     * Returns the given projection, or the projection of the target type if the projection is not provided.
+     *
+     * @param projection The projection, or <code>null</code>
+     * @param targetType The type of the returned documents
+     * @return The projection
+     */
+    static Bson getProjection(Bson projection, BTypedesc targetType) {
+        if (projection == null) {
+            return TypePlan.of(targetType.getDescribingType()).getProjection();
         }
+        return projection;
     }
 
     static Document getProjectionDocument(Document document, Type type, String key, Set<Type> visitedTypes) {